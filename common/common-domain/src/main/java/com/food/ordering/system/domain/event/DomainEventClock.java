@@ -0,0 +1,12 @@
+package com.food.ordering.system.domain.event;
+
+/**
+ * Source of event timestamps in epoch milliseconds. Events keep the raw millis and only build a
+ * zoned date-time when one is asked for.
+ */
+@FunctionalInterface
+public interface DomainEventClock {
+  DomainEventClock SYSTEM = System::currentTimeMillis;
+
+  long millis();
+}
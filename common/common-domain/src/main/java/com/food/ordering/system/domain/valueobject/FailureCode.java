@@ -0,0 +1,65 @@
+package com.food.ordering.system.domain.valueobject;
+
+public enum FailureCode {
+  UNSPECIFIED(0, "Unspecified failure", null),
+  PAYMENT_INSUFFICIENT_CREDIT(1, "Customer doesn't have enough credit for payment", "CustomerId"),
+  PAYMENT_INVALID_PRICE(2, "Total price must be greater than zero", null),
+  PAYMENT_CREDIT_HISTORY_MISMATCH(3, "Credit history total is not equal to current credit", "CustomerId"),
+  PAYMENT_NOT_FOUND(4, "Payment could not be found", "OrderId"),
+  PAYMENT_TIMEOUT(5, "Payment response did not arrive in time", null),
+  PAYMENT_CANCELLATION_TIMEOUT(6, "Payment cancellation response did not arrive in time", null),
+  RESTAURANT_NOT_ACTIVE(10, "Restaurant is not active", "RestaurantId"),
+  RESTAURANT_PRODUCT_UNAVAILABLE(11, "Product is not available", "ProductId"),
+  RESTAURANT_PRICE_MISMATCH(12, "Order total price is not correct", "OrderId"),
+  RESTAURANT_REJECTED(13, "Order was rejected by restaurant", "RestaurantId"),
+  RESTAURANT_APPROVAL_TIMEOUT(14, "Restaurant approval did not arrive in time", null);
+
+  private static final FailureCode[] BY_CODE = indexByCode();
+
+  private final short code;
+  private final String message;
+  private final String parameterName;
+  private final FailureReason reason;
+
+  FailureCode(int code, String message, String parameterName) {
+    this.code = (short) code;
+    this.message = message;
+    this.parameterName = parameterName;
+    this.reason = new FailureReason(this, null);
+  }
+
+  public static FailureCode fromCode(int code) {
+    if (code < 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+      return UNSPECIFIED;
+    }
+    return BY_CODE[code];
+  }
+
+  public short getCode() {
+    return code;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public String getParameterName() {
+    return parameterName;
+  }
+
+  FailureReason reason() {
+    return reason;
+  }
+
+  private static FailureCode[] indexByCode() {
+    int max = 0;
+    for (FailureCode failureCode : values()) {
+      max = Math.max(max, failureCode.code);
+    }
+    FailureCode[] byCode = new FailureCode[max + 1];
+    for (FailureCode failureCode : values()) {
+      byCode[failureCode.code] = failureCode;
+    }
+    return byCode;
+  }
+}
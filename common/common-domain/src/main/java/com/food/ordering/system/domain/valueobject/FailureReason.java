@@ -0,0 +1,62 @@
+package com.food.ordering.system.domain.valueobject;
+
+public final class FailureReason {
+  private final FailureCode code;
+  private final String parameter;
+
+  FailureReason(FailureCode code, String parameter) {
+    this.code = code;
+    this.parameter = parameter;
+  }
+
+  public static FailureReason of(FailureCode code) {
+    return code.reason();
+  }
+
+  public static FailureReason of(FailureCode code, String parameter) {
+    return parameter == null || parameter.isBlank() ? code.reason() : new FailureReason(code, parameter);
+  }
+
+  public static FailureReason of(int code, String parameter) {
+    return of(FailureCode.fromCode(code), parameter);
+  }
+
+  public FailureCode getCode() {
+    return code;
+  }
+
+  public String getParameter() {
+    return parameter;
+  }
+
+  public String render() {
+    if (parameter == null) {
+      return code.getMessage();
+    }
+    if (code.getParameterName() == null) {
+      return code.getMessage() + ": " + parameter;
+    }
+    return code.getMessage() + ". " + code.getParameterName() + ": " + parameter;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof FailureReason that)) return false;
+
+    if (code != that.code) return false;
+    return parameter != null ? parameter.equals(that.parameter) : that.parameter == null;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = code.hashCode();
+    result = 31 * result + (parameter != null ? parameter.hashCode() : 0);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return parameter == null ? String.valueOf(code.getCode()) : code.getCode() + ":" + parameter;
+  }
+}
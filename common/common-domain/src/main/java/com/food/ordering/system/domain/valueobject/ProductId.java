@@ -3,7 +3,7 @@ package com.food.ordering.system.domain.valueobject;
 import java.util.UUID;
 
 public class ProductId extends BaseId<UUID> {
-  protected ProductId(UUID value) {
+  public ProductId(UUID value) {
     super(value);
   }
 }
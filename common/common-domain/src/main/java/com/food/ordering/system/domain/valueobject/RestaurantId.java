@@ -3,7 +3,7 @@ package com.food.ordering.system.domain.valueobject;
 import java.util.UUID;
 
 public class RestaurantId extends BaseId<UUID> {
-  protected RestaurantId(UUID value) {
+  public RestaurantId(UUID value) {
     super(value);
   }
 }
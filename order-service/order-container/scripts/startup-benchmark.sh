@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Compares order-container startup modes built by the fast-startup profile.
+# Usage: startup-benchmark.sh <target directory> [runs per mode] [datasource url]
+set -euo pipefail
+
+target_dir=${1:?target directory required}
+runs=${2:-5}
+datasource_url=${3:-jdbc:h2:mem:orders;MODE=PostgreSQL;DB_CLOSE_DELAY=-1}
+cd "$target_dir"
+
+declare -A modes=(
+  [baseline]=""
+  [cds]="-XX:SharedArchiveFile=order-container.jsa"
+  [aot]="-Dspring.aot.enabled=true"
+  [aot+cds]="-Dspring.aot.enabled=true -XX:SharedArchiveFile=order-container-aot.jsa"
+)
+
+now_millis() {
+  date +%s%3N
+}
+
+printf '%-10s %18s %26s\n' "mode" "startup avg (ms)" "first request avg (ms)"
+for mode in baseline cds aot aot+cds; do
+  ready_total=0
+  first_total=0
+  for ((run = 0; run < runs; run++)); do
+    launched_at=$(now_millis)
+    # shellcheck disable=SC2086
+    output=$(java ${modes[$mode]} -Xshare:auto -Dorder-service.startup.mode=probe \
+      "-Dspring.datasource.url=$datasource_url" \
+      -Dlogging.level.root=WARN -Dlogging.level.com.food.ordering.system.order.service.domain.startup=INFO \
+      -jar order-container.jar)
+    probe=$(grep -o 'readyAt=[0-9]* firstRequestAt=[0-9]*' <<< "$output")
+    ready_at=$(sed -E 's/readyAt=([0-9]+).*/\1/' <<< "$probe")
+    first_at=$(sed -E 's/.*firstRequestAt=([0-9]+)/\1/' <<< "$probe")
+    ready_total=$((ready_total + ready_at - launched_at))
+    first_total=$((first_total + first_at - launched_at))
+  done
+  printf '%-10s %18d %26d\n' "$mode" $((ready_total / runs)) $((first_total / runs))
+done
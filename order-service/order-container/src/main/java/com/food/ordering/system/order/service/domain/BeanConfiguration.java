@@ -0,0 +1,103 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.event.DomainEventClock;
+import com.food.ordering.system.order.service.domain.admission.AdmissionControlledOrderDomainService;
+import com.food.ordering.system.order.service.domain.admission.AdmissionPolicy;
+import com.food.ordering.system.order.service.domain.admission.RestaurantAdmissionController;
+import com.food.ordering.system.order.service.domain.customer.CustomerVerifier;
+import com.food.ordering.system.order.service.domain.customer.CustomerVerifyingOrderDomainService;
+import com.food.ordering.system.order.service.domain.entity.OrderItemsValidator;
+import com.food.ordering.system.order.service.domain.expiry.ExpiringOrderDomainService;
+import com.food.ordering.system.order.service.domain.expiry.OrderExpiryPolicy;
+import com.food.ordering.system.order.service.domain.expiry.OrderExpiryScheduler;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.statistics.RestaurantOrderStatistics;
+import com.food.ordering.system.order.service.domain.statistics.StatisticsRecordingOrderDomainService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class BeanConfiguration {
+
+  @Bean
+  public RestaurantAdmissionController restaurantAdmissionController() {
+    return new RestaurantAdmissionController(AdmissionPolicy.DEFAULT);
+  }
+
+  @Bean
+  public RestaurantOrderStatistics restaurantOrderStatistics(
+      @Value("${order-service.statistics.window-count:60}") int windowCount) {
+    return new RestaurantOrderStatistics(windowCount);
+  }
+
+  @Bean
+  public CustomerVerifier customerVerifier(CustomerRepository customerRepository,
+      @Value("${order-service.customer.expected-customers:1000000}") long expectedCustomers,
+      @Value("${order-service.customer.false-positive-rate:0.01}") double falsePositiveRate,
+      @Value("${order-service.customer.cache-size:16384}") int cacheSize) {
+    CustomerVerifier customerVerifier =
+        new CustomerVerifier(customerRepository, expectedCustomers, falsePositiveRate, cacheSize);
+    customerVerifier.rebuild();
+    return customerVerifier;
+  }
+
+  @Bean
+  public DomainEventClock domainEventClock() {
+    return DomainEventClock.SYSTEM;
+  }
+
+  @Bean
+  public OrderItemsValidator orderItemsValidator(
+      @Value("${order-service.validation.parallel-threshold:2048}") int parallelThreshold) {
+    return new OrderItemsValidator(parallelThreshold);
+  }
+
+  @Bean
+  public ValidatedBasketCache validatedBasketCache(
+      @Value("${order-service.validation.basket-cache-size:100000}") int basketCacheSize) {
+    return new ValidatedBasketCache(basketCacheSize);
+  }
+
+  @Bean
+  public OrderExpiryPolicy orderExpiryPolicy(
+      @Value("${order-service.expiry.pending-timeout:PT5M}") Duration pendingTimeout,
+      @Value("${order-service.expiry.paid-timeout:PT10M}") Duration paidTimeout,
+      @Value("${order-service.expiry.cancelling-timeout:PT5M}") Duration cancellingTimeout,
+      @Value("${order-service.expiry.tick:PT0.1S}") Duration tick,
+      @Value("${order-service.expiry.batch-size:500}") int batchSize) {
+    return OrderExpiryPolicy.builder()
+        .pendingTimeout(pendingTimeout)
+        .paidTimeout(paidTimeout)
+        .cancellingTimeout(cancellingTimeout)
+        .tick(tick)
+        .batchSize(batchSize)
+        .build();
+  }
+
+  @Bean
+  public OrderExpiryScheduler orderExpiryScheduler(OrderExpiryPolicy orderExpiryPolicy) {
+    return new OrderExpiryScheduler(orderExpiryPolicy);
+  }
+
+  @Bean
+  public OrderDomainService orderDomainService(DomainEventClock domainEventClock,
+                                               OrderItemsValidator orderItemsValidator,
+                                               ValidatedBasketCache validatedBasketCache,
+                                               OrderExpiryScheduler orderExpiryScheduler,
+                                               CustomerVerifier customerVerifier,
+                                               RestaurantAdmissionController restaurantAdmissionController,
+                                               RestaurantOrderStatistics restaurantOrderStatistics) {
+    return new StatisticsRecordingOrderDomainService(
+        new AdmissionControlledOrderDomainService(
+            new CustomerVerifyingOrderDomainService(
+                new ExpiringOrderDomainService(
+                    new OrderDomainServiceImpl(domainEventClock, orderItemsValidator, validatedBasketCache),
+                    orderExpiryScheduler),
+                customerVerifier),
+            restaurantAdmissionController),
+        restaurantOrderStatistics);
+  }
+}
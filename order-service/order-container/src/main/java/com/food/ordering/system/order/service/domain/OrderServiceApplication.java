@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.startup.StartupWorkloadRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@EnableScheduling
+@SpringBootApplication(scanBasePackages = "com.food.ordering.system")
+public class OrderServiceApplication {
+  public static void main(String[] args) {
+    ConfigurableApplicationContext context = SpringApplication.run(OrderServiceApplication.class, args);
+    if (context.getBean(StartupWorkloadRunner.class).isWorkloadCompleted()) {
+      System.exit(SpringApplication.exit(context));
+    }
+  }
+}
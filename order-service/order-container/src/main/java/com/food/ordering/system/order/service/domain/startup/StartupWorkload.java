@@ -0,0 +1,80 @@
+package com.food.ordering.system.order.service.domain.startup;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Synthetic restaurants and orders used to warm up the create and track paths.
+ */
+class StartupWorkload {
+  private static final int RESTAURANTS = 64;
+  private static final int PRODUCTS_PER_RESTAURANT = 20;
+  private static final int CUSTOMERS = 256;
+
+  private final List<Restaurant> restaurants = new ArrayList<>(RESTAURANTS);
+
+  StartupWorkload() {
+    for (int i = 0; i < RESTAURANTS; i++) {
+      List<Product> products = new ArrayList<>(PRODUCTS_PER_RESTAURANT);
+      for (int j = 0; j < PRODUCTS_PER_RESTAURANT; j++) {
+        products.add(new Product(new ProductId(new UUID(i, j)), "product-" + j,
+            new Money(BigDecimal.valueOf(100L + j * 25L, 2))));
+      }
+      restaurants.add(Restaurant.Builder.builder()
+          .restaurantId(new RestaurantId(new UUID(i, -1)))
+          .products(products)
+          .active(true)
+          .build());
+    }
+  }
+
+  List<UUID> customerIds() {
+    List<UUID> customerIds = new ArrayList<>(CUSTOMERS);
+    for (int i = 0; i < CUSTOMERS; i++) {
+      customerIds.add(new UUID(-1, i));
+    }
+    return customerIds;
+  }
+
+  Restaurant restaurant(int iteration) {
+    return restaurants.get(iteration % RESTAURANTS);
+  }
+
+  Order order(int iteration) {
+    Restaurant restaurant = restaurant(iteration);
+    int itemCount = 1 + iteration % 5;
+    List<OrderItem> items = new ArrayList<>(itemCount);
+    Money total = Money.ZERO;
+    for (int i = 0; i < itemCount; i++) {
+      Product product = restaurant.getProducts().get((iteration + i) % PRODUCTS_PER_RESTAURANT);
+      int quantity = 1 + i % 3;
+      Money subTotal = product.getPrice().multiply(quantity);
+      items.add(OrderItem.Builder.builder()
+          .product(new Product(product.getId(), null, null))
+          .quantity(quantity)
+          .price(product.getPrice())
+          .subTotal(subTotal)
+          .build());
+      total = total.add(subTotal);
+    }
+    return Order.Builder.builder()
+        .customerId(new CustomerId(new UUID(-1, iteration % CUSTOMERS)))
+        .restaurantId(restaurant.getId())
+        .deliveryAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city"))
+        .price(total)
+        .items(items)
+        .build();
+  }
+}
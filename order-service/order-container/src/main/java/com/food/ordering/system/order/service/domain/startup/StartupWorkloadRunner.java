@@ -0,0 +1,110 @@
+package com.food.ordering.system.order.service.domain.startup;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.customer.CustomerMessageListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Used by the fast-startup build profile. {@code training} drives the hot create and track paths
+ * before a class data sharing archive is dumped at exit, {@code probe} handles a single order and
+ * prints timestamps the startup benchmark reads. The mode is read at runtime rather than through a
+ * conditional bean so that the same AOT-processed context serves every mode. The runner only
+ * reports that its workload completed; {@code OrderServiceApplication.main} then exits with the
+ * code this generator returns, so the archive is dumped.
+ */
+@Slf4j
+@Component
+public class StartupWorkloadRunner implements ApplicationRunner, ExitCodeGenerator {
+  private static final List<FailureReason> TRAINING_FAILURE =
+      List.of(FailureReason.of(FailureCode.PAYMENT_INSUFFICIENT_CREDIT, "training"));
+
+  private final OrderDomainService orderDomainService;
+  private final OrderDataMapper orderDataMapper;
+  private final CustomerMessageListener customerMessageListener;
+  private final String mode;
+  private final int iterations;
+  private volatile boolean workloadCompleted;
+
+  public StartupWorkloadRunner(OrderDomainService orderDomainService,
+                               OrderDataMapper orderDataMapper,
+                               CustomerMessageListener customerMessageListener,
+                               @Value("${order-service.startup.mode:none}") String mode,
+                               @Value("${order-service.startup.iterations:2000}") int iterations) {
+    this.orderDomainService = orderDomainService;
+    this.orderDataMapper = orderDataMapper;
+    this.customerMessageListener = customerMessageListener;
+    this.mode = mode;
+    this.iterations = iterations;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    switch (mode) {
+      case "none" -> {
+        return;
+      }
+      case "training" -> train();
+      case "probe" -> probe();
+      default -> throw new IllegalStateException("Unknown order-service.startup.mode: " + mode);
+    }
+    workloadCompleted = true;
+  }
+
+  /**
+   * @return whether a training or probe workload ran, after which the application should exit.
+   */
+  public boolean isWorkloadCompleted() {
+    return workloadCompleted;
+  }
+
+  @Override
+  public int getExitCode() {
+    return 0;
+  }
+
+  private void train() {
+    StartupWorkload workload = new StartupWorkload();
+    registerCustomers(workload);
+    for (int i = 0; i < iterations; i++) {
+      createAndTrack(workload, i);
+    }
+    log.info("Startup training finished after {} orders", iterations);
+  }
+
+  private void probe() {
+    long readyAt = System.currentTimeMillis();
+    StartupWorkload workload = new StartupWorkload();
+    registerCustomers(workload);
+    createAndTrack(workload, 0);
+    long firstRequestAt = System.currentTimeMillis();
+    log.info("Startup probe: readyAt={} firstRequestAt={}", readyAt, firstRequestAt);
+  }
+
+  private void registerCustomers(StartupWorkload workload) {
+    for (UUID customerId : workload.customerIds()) {
+      customerMessageListener.customerCreated(CustomerModel.builder().id(customerId).build());
+    }
+  }
+
+  private void createAndTrack(StartupWorkload workload, int iteration) {
+    Order order = workload.order(iteration);
+    orderDomainService.validateAndInitiateOrder(order, workload.restaurant(iteration));
+    if (iteration % 10 == 9) {
+      orderDomainService.cancelOrder(order, TRAINING_FAILURE);
+    }
+    orderDataMapper.orderToTrackOrderResponse(order);
+  }
+}
@@ -0,0 +1,70 @@
+package com.food.ordering.system.order.service.domain.startup;
+
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.customer.CustomerMessageListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class StartupWorkloadRunnerTest {
+  private final OrderDomainService orderDomainService = spy(new OrderDomainServiceImpl());
+  private final CustomerMessageListener customerMessageListener = mock(CustomerMessageListener.class);
+
+  @Test
+  void modeNoneRunsNothingAndKeepsTheApplicationRunning() {
+    StartupWorkloadRunner runner = runner("none", 100);
+
+    runner.run(new DefaultApplicationArguments());
+
+    assertThat(runner.isWorkloadCompleted()).isFalse();
+    verifyNoInteractions(orderDomainService, customerMessageListener);
+  }
+
+  @Test
+  void unknownModeFailsStartup() {
+    StartupWorkloadRunner runner = runner("warmup", 100);
+
+    assertThatThrownBy(() -> runner.run(new DefaultApplicationArguments()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Unknown order-service.startup.mode: warmup");
+    assertThat(runner.isWorkloadCompleted()).isFalse();
+    verifyNoInteractions(orderDomainService, customerMessageListener);
+  }
+
+  @Test
+  void trainingRunsEveryIterationAndThenAsksToExitCleanly() {
+    StartupWorkloadRunner runner = runner("training", 20);
+
+    runner.run(new DefaultApplicationArguments());
+
+    assertThat(runner.isWorkloadCompleted()).isTrue();
+    assertThat(runner.getExitCode()).isZero();
+    verify(orderDomainService, times(20)).validateAndInitiateOrder(any(), any());
+    verify(orderDomainService, times(2)).cancelOrder(any(), any());
+  }
+
+  @Test
+  void probeHandlesOneOrder() {
+    StartupWorkloadRunner runner = runner("probe", 20);
+
+    runner.run(new DefaultApplicationArguments());
+
+    assertThat(runner.isWorkloadCompleted()).isTrue();
+    verify(orderDomainService).validateAndInitiateOrder(any(), any());
+  }
+
+  private StartupWorkloadRunner runner(String mode, int iterations) {
+    return new StartupWorkloadRunner(orderDomainService, new OrderDataMapper(), customerMessageListener,
+        mode, iterations);
+  }
+}
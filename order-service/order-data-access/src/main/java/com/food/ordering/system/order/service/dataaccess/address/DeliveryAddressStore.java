@@ -0,0 +1,100 @@
+package com.food.ordering.system.order.service.dataaccess.address;
+
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Content-addressed store of delivery addresses. The id of an address is a name-based UUID of its
+ * normalized form, so every order to the same address shares one row and a write is an idempotent
+ * insert-if-absent. Addresses already written by this instance are cached as written, so a repeat
+ * resolves without normalizing or touching the database; inside a transaction they are cached
+ * only once it commits, so a rolled back insert is never taken as stored.
+ */
+@Component
+public class DeliveryAddressStore {
+  private static final char SEPARATOR = '\u001F';
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final int cacheSize;
+  private final ConcurrentMap<StreetAddress, UUID> cache = new ConcurrentHashMap<>();
+
+  public DeliveryAddressStore(NamedParameterJdbcTemplate jdbcTemplate,
+                              @Value("${order-service.address.cache-size:100000}") int cacheSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.cacheSize = cacheSize;
+  }
+
+  /**
+   * @return the id of the stored address equal to {@code address}, inserting it on first use.
+   */
+  public UUID intern(StreetAddress address) {
+    UUID id = cache.get(address);
+    if (id != null) {
+      return id;
+    }
+    StreetAddress key = new StreetAddress(null, address.getStreet(), address.getPostalCode(), address.getCity());
+    id = idOf(address.normalize());
+    jdbcTemplate.update("""
+            INSERT INTO delivery_addresses (id, street, postal_code, city)
+            VALUES (:id, :street, :postalCode, :city)
+            ON CONFLICT DO NOTHING
+            """,
+        new MapSqlParameterSource()
+            .addValue("id", id)
+            .addValue("street", address.getStreet().strip())
+            .addValue("postalCode", address.getPostalCode().strip())
+            .addValue("city", address.getCity().strip()));
+    UUID storedId = id;
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache(key, storedId);
+        }
+      });
+    } else {
+      cache(key, storedId);
+    }
+    return id;
+  }
+
+  public int getCachedCount() {
+    return cache.size();
+  }
+
+  private void cache(StreetAddress key, UUID id) {
+    if (cache.size() >= cacheSize) {
+      evict();
+    }
+    cache.put(key, id);
+  }
+
+  static UUID idOf(StreetAddress normalized) {
+    String content = normalized.getStreet() + SEPARATOR + normalized.getPostalCode() + SEPARATOR + normalized.getCity();
+    return UUID.nameUUIDFromBytes(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Drops roughly an eighth of the cache in hash order, which is as good as random for this key.
+   * An evicted address only costs one more idempotent insert.
+   */
+  private void evict() {
+    int toRemove = Math.max(1, cacheSize / 8);
+    Iterator<StreetAddress> keys = cache.keySet().iterator();
+    while (toRemove-- > 0 && keys.hasNext()) {
+      keys.next();
+      keys.remove();
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.food.ordering.system.order.service.dataaccess.archive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.archive")
+public class OrderArchiveConfigData {
+  private String directory = "order-archive";
+  private int batchSize = 10_000;
+  private int rowsPerBlock = 1_024;
+}
@@ -0,0 +1,132 @@
+package com.food.ordering.system.order.service.dataaccess.archive;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderArchiveRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class OrderArchiveRepositoryImpl implements OrderArchiveRepository {
+  private static final String SEGMENT_PREFIX = "orders-";
+  private static final String SEGMENT_SUFFIX = ".seg";
+  private static final String TEMPORARY_SUFFIX = ".tmp";
+
+  private final Path directory;
+  private final OrderSegmentWriter segmentWriter;
+  // newest segment first, so the most recent copy of an order wins if a crash archived it twice.
+  private final List<OrderSegmentReader> segments = new CopyOnWriteArrayList<>();
+  private final AtomicLong segmentSequence = new AtomicLong();
+
+  public OrderArchiveRepositoryImpl(OrderArchiveConfigData orderArchiveConfigData) {
+    this.directory = Path.of(orderArchiveConfigData.getDirectory());
+    this.segmentWriter = new OrderSegmentWriter(orderArchiveConfigData.getRowsPerBlock());
+    try {
+      openSegments();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open order archive in " + directory, e);
+    }
+  }
+
+  @Override
+  public void archive(List<Order> orders) {
+    if (orders.isEmpty()) {
+      return;
+    }
+    Path segment = directory.resolve(SEGMENT_PREFIX + "%020d".formatted(segmentSequence.incrementAndGet())
+        + SEGMENT_SUFFIX);
+    Path temporary = directory.resolve(segment.getFileName() + TEMPORARY_SUFFIX);
+    try {
+      segmentWriter.write(temporary, orders);
+      Files.move(temporary, segment, StandardCopyOption.ATOMIC_MOVE);
+      // the caller deletes the archived rows next, so the rename has to be durable first.
+      forceDirectory();
+      segments.add(0, OrderSegmentReader.open(segment));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not write order archive segment " + segment, e);
+    }
+    log.info("Archived {} orders into segment {}", orders.size(), segment.getFileName());
+  }
+
+  @Override
+  public Optional<Order> findByTrackingId(TrackingId trackingId) {
+    for (OrderSegmentReader segment : segments) {
+      Optional<Order> order = segment.findByTrackingId(trackingId.getValue());
+      if (order.isPresent()) {
+        return order;
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public List<Order> findByTrackingIdIn(Collection<TrackingId> trackingIds) {
+    Set<UUID> remaining = new HashSet<>(trackingIds.size());
+    for (TrackingId trackingId : trackingIds) {
+      remaining.add(trackingId.getValue());
+    }
+    List<Order> orders = new ArrayList<>(remaining.size());
+    for (OrderSegmentReader segment : segments) {
+      if (remaining.isEmpty()) {
+        break;
+      }
+      for (Order order : segment.findByTrackingIds(remaining)) {
+        remaining.remove(order.getTrackingId().getValue());
+        orders.add(order);
+      }
+    }
+    return orders;
+  }
+
+  private void forceDirectory() throws IOException {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    }
+  }
+
+  private void openSegments() throws IOException {
+    Files.createDirectories(directory);
+    List<Path> segmentFiles = new ArrayList<>();
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(TEMPORARY_SUFFIX)) {
+          // a segment that was not completely written before a crash, its orders are still in the order tables.
+          Files.delete(file);
+        } else if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+          segmentFiles.add(file);
+        }
+      }
+    }
+    segmentFiles.sort(Comparator.comparing(Path::getFileName).reversed());
+    for (Path segmentFile : segmentFiles) {
+      segments.add(OrderSegmentReader.open(segmentFile));
+    }
+    if (!segmentFiles.isEmpty()) {
+      String newest = segmentFiles.get(0).getFileName().toString();
+      segmentSequence.set(Long.parseLong(newest.substring(SEGMENT_PREFIX.length(),
+          newest.length() - SEGMENT_SUFFIX.length())));
+    }
+    log.info("Opened {} order archive segments in {}", segments.size(), directory);
+  }
+}
@@ -0,0 +1,57 @@
+package com.food.ordering.system.order.service.dataaccess.archive;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderArchiveRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves orders that reached a terminal state out of the order tables into archive segments.
+ * A segment is durable before its orders are deleted, so a crash in between only leaves orders
+ * in both tiers; lookups check the order tables first and the next run archives them again.
+ */
+@Slf4j
+@Component
+public class OrderArchiver {
+  private static final List<OrderStatus> TERMINAL_STATUSES = List.of(OrderStatus.APPROVED, OrderStatus.CANCELLED);
+
+  private final OrderRepository orderRepository;
+  private final OrderArchiveRepository orderArchiveRepository;
+  private final OrderArchiveConfigData orderArchiveConfigData;
+
+  public OrderArchiver(OrderRepository orderRepository,
+                       OrderArchiveRepository orderArchiveRepository,
+                       OrderArchiveConfigData orderArchiveConfigData) {
+    this.orderRepository = orderRepository;
+    this.orderArchiveRepository = orderArchiveRepository;
+    this.orderArchiveConfigData = orderArchiveConfigData;
+  }
+
+  @Scheduled(fixedDelayString = "${order-service.archive.interval:PT1M}",
+      initialDelayString = "${order-service.archive.interval:PT1M}")
+  public void archiveTerminalOrders() {
+    int batchSize = orderArchiveConfigData.getBatchSize();
+    int archived = 0;
+    List<Order> batch;
+    do {
+      batch = orderRepository.findByOrderStatusIn(TERMINAL_STATUSES, batchSize);
+      if (batch.isEmpty()) {
+        break;
+      }
+      orderArchiveRepository.archive(batch);
+      List<OrderId> orderIds = batch.stream().map(Order::getId).toList();
+      orderRepository.deleteAllById(orderIds);
+      archived += batch.size();
+    } while (batch.size() == batchSize);
+
+    if (archived > 0) {
+      log.info("Moved {} terminal orders to the archive", archived);
+    }
+  }
+}
@@ -0,0 +1,322 @@
+package com.food.ordering.system.order.service.dataaccess.archive;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Memory-mapped, read-only view of a segment written by {@link OrderSegmentWriter}.
+ */
+class OrderSegmentReader {
+  private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+
+  private final Path file;
+  private final MappedByteBuffer buffer;
+  private final int orderCount;
+  private final int rowsPerBlock;
+  private final long[][] blockOffsets;
+  private final int[][] compressedLengths;
+  private final int[][] rawLengths;
+  private final int[][] blockChecksums;
+  private final int indexOffset;
+
+  private OrderSegmentReader(Path file, MappedByteBuffer buffer) {
+    this.file = file;
+    this.buffer = buffer;
+    if (buffer.capacity() < OrderSegmentWriter.HEADER_BYTES || buffer.getInt(0) != OrderSegmentWriter.MAGIC) {
+      throw new IllegalStateException("Not an order segment file: " + file);
+    }
+    if (buffer.getInt(4) != OrderSegmentWriter.VERSION) {
+      throw new IllegalStateException("Unsupported version " + buffer.getInt(4) + " of order segment: " + file);
+    }
+    orderCount = buffer.getInt(8);
+    rowsPerBlock = buffer.getInt(16);
+    int columnCount = buffer.getInt(20);
+    if (columnCount != SegmentColumn.values().length) {
+      throw new IllegalStateException("Unexpected column count " + columnCount + " in segment: " + file);
+    }
+    blockOffsets = new long[columnCount][];
+    compressedLengths = new int[columnCount][];
+    rawLengths = new int[columnCount][];
+    blockChecksums = new int[columnCount][];
+    int position = OrderSegmentWriter.HEADER_BYTES;
+    for (int column = 0; column < columnCount; column++) {
+      int blockCount = buffer.getInt(checkedPosition(position, Integer.BYTES));
+      position += Integer.BYTES;
+      checkedPosition(position, (long) blockCount * OrderSegmentWriter.BLOCK_ENTRY_BYTES);
+      blockOffsets[column] = new long[blockCount];
+      compressedLengths[column] = new int[blockCount];
+      rawLengths[column] = new int[blockCount];
+      blockChecksums[column] = new int[blockCount];
+      for (int block = 0; block < blockCount; block++) {
+        blockOffsets[column][block] = buffer.getLong(position);
+        compressedLengths[column][block] = buffer.getInt(position + Long.BYTES);
+        rawLengths[column][block] = buffer.getInt(position + Long.BYTES + Integer.BYTES);
+        blockChecksums[column][block] = buffer.getInt(position + Long.BYTES + 2 * Integer.BYTES);
+        checkedPosition(blockOffsets[column][block], compressedLengths[column][block]);
+        position += OrderSegmentWriter.BLOCK_ENTRY_BYTES;
+      }
+    }
+    indexOffset = position;
+    int metadataEnd = checkedPosition(indexOffset, (long) orderCount * OrderSegmentWriter.INDEX_ENTRY_BYTES)
+        + orderCount * OrderSegmentWriter.INDEX_ENTRY_BYTES;
+    if (OrderSegmentWriter.metadataChecksum(buffer, metadataEnd) != buffer.getInt(OrderSegmentWriter.METADATA_CRC_OFFSET)) {
+      throw new IllegalStateException("Corrupt directory or index in order segment: " + file);
+    }
+  }
+
+  /**
+   * @return {@code position}, after checking that {@code length} bytes from it lie within the file.
+   */
+  private int checkedPosition(long position, long length) {
+    if (position < 0 || length < 0 || position + length > buffer.capacity()) {
+      throw new IllegalStateException("Truncated order segment: " + file);
+    }
+    return (int) position;
+  }
+
+  static OrderSegmentReader open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IllegalStateException("Segment file is too large to map: " + file);
+      }
+      return new OrderSegmentReader(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  Path getFile() {
+    return file;
+  }
+
+  int getOrderCount() {
+    return orderCount;
+  }
+
+  Optional<Order> findByTrackingId(UUID trackingId) {
+    List<Order> orders = findByTrackingIds(List.of(trackingId));
+    return orders.isEmpty() ? Optional.empty() : Optional.of(orders.get(0));
+  }
+
+  /**
+   * Reads the matching rows in file order, so each block is inflated at most once per column no
+   * matter how many of the requested orders it holds. An id requested twice is read once.
+   */
+  List<Order> findByTrackingIds(Collection<UUID> trackingIds) {
+    List<RowMatch> matches = new ArrayList<>(trackingIds.size());
+    for (UUID trackingId : trackingIds) {
+      int row = findRow(trackingId.getMostSignificantBits(), trackingId.getLeastSignificantBits());
+      if (row >= 0) {
+        matches.add(new RowMatch(row, trackingId));
+      }
+    }
+    if (matches.isEmpty()) {
+      return List.of();
+    }
+    matches.sort(Comparator.comparingInt(RowMatch::row));
+    ColumnCursor[] cursors = new ColumnCursor[SegmentColumn.values().length];
+    for (SegmentColumn column : SegmentColumn.values()) {
+      cursors[column.ordinal()] = new ColumnCursor(column);
+    }
+    List<Order> orders = new ArrayList<>(matches.size());
+    try {
+      int previousRow = -1;
+      for (RowMatch match : matches) {
+        if (match.row() != previousRow) {
+          orders.add(readOrder(match.row(), match.trackingId(), cursors));
+          previousRow = match.row();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read orders from segment: " + file, e);
+    }
+    return orders;
+  }
+
+  private int findRow(long mostSignificantBits, long leastSignificantBits) {
+    int low = 0;
+    int high = orderCount - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int entry = indexOffset + middle * OrderSegmentWriter.INDEX_ENTRY_BYTES;
+      int result = Long.compare(buffer.getLong(entry), mostSignificantBits);
+      if (result == 0) {
+        result = Long.compare(buffer.getLong(entry + Long.BYTES), leastSignificantBits);
+      }
+      if (result < 0) {
+        low = middle + 1;
+      } else if (result > 0) {
+        high = middle - 1;
+      } else {
+        return buffer.getInt(entry + 2 * Long.BYTES);
+      }
+    }
+    return -1;
+  }
+
+  private Order readOrder(int row, UUID trackingId, ColumnCursor[] cursors) throws IOException {
+    int firstItem = seek(cursors, SegmentColumn.FIRST_ITEM, row).readInt();
+    int itemCount = seek(cursors, SegmentColumn.ITEM_COUNT, row).readInt();
+    UUID orderId = readUuid(seek(cursors, SegmentColumn.ORDER_ID, row));
+
+    List<OrderItem> items = new ArrayList<>(itemCount);
+    for (int itemRow = firstItem; itemRow < firstItem + itemCount; itemRow++) {
+      Money price = toMoney(seek(cursors, SegmentColumn.ITEM_PRICE, itemRow).readLong());
+      OrderItem item = OrderItem.Builder.builder()
+          .orderItemId(new OrderItemId(seek(cursors, SegmentColumn.ITEM_ID, itemRow).readLong()))
+          .product(new Product(new ProductId(readUuid(seek(cursors, SegmentColumn.PRODUCT_ID, itemRow))), null, price))
+          .quantity(seek(cursors, SegmentColumn.QUANTITY, itemRow).readInt())
+          .price(price)
+          .subTotal(toMoney(seek(cursors, SegmentColumn.ITEM_SUB_TOTAL, itemRow).readLong()))
+          .build();
+      item.setOrderId(new OrderId(orderId));
+      items.add(item);
+    }
+
+    return Order.Builder.builder()
+        .orderId(new OrderId(orderId))
+        .customerId(new CustomerId(readUuid(seek(cursors, SegmentColumn.CUSTOMER_ID, row))))
+        .restaurantId(new RestaurantId(readUuid(seek(cursors, SegmentColumn.RESTAURANT_ID, row))))
+        .trackingId(new TrackingId(trackingId))
+        .price(toMoney(seek(cursors, SegmentColumn.PRICE, row).readLong()))
+        .orderStatus(ORDER_STATUSES[seek(cursors, SegmentColumn.ORDER_STATUS, row).readByte()])
+        .deliveryAddress(new StreetAddress(readUuid(seek(cursors, SegmentColumn.ADDRESS_ID, row)),
+            seek(cursors, SegmentColumn.STREET, row).readUTF(),
+            seek(cursors, SegmentColumn.POSTAL_CODE, row).readUTF(),
+            seek(cursors, SegmentColumn.CITY, row).readUTF()))
+        .items(items)
+        .failureReasons(readFailureReasons(seek(cursors, SegmentColumn.FAILURE_REASONS, row)))
+        .build();
+  }
+
+  private static DataInputStream seek(ColumnCursor[] cursors, SegmentColumn column, int row) throws IOException {
+    return cursors[column.ordinal()].seek(row);
+  }
+
+  private static UUID readUuid(DataInputStream in) throws IOException {
+    return new UUID(in.readLong(), in.readLong());
+  }
+
+  private static List<FailureReason> readFailureReasons(DataInputStream in) throws IOException {
+    int count = in.readShort();
+    if (count == 0) {
+      return null;
+    }
+    List<FailureReason> failureReasons = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      failureReasons.add(FailureReason.of(in.readShort(), in.readUTF()));
+    }
+    return failureReasons;
+  }
+
+  private static void skipValue(SegmentColumn column, DataInputStream in) throws IOException {
+    if (column == SegmentColumn.FAILURE_REASONS) {
+      int count = in.readShort();
+      for (int i = 0; i < count; i++) {
+        in.skipBytes(Short.BYTES);
+        in.skipBytes(in.readUnsignedShort());
+      }
+    } else {
+      in.skipBytes(in.readUnsignedShort());
+    }
+  }
+
+  private record RowMatch(int row, UUID trackingId) {
+  }
+
+  private static Money toMoney(long minorUnits) {
+    return new Money(BigDecimal.valueOf(minorUnits, OrderSegmentWriter.MONEY_SCALE));
+  }
+
+  /**
+   * Positions a stream on a row of one column, keeping the inflated block around so sequential
+   * reads of neighbouring rows, like the items of an order, inflate each block only once.
+   * Callers read exactly one value after each seek.
+   */
+  private final class ColumnCursor {
+    private final SegmentColumn column;
+    private int block = -1;
+    private int rowInBlock;
+    private DataInputStream in;
+
+    ColumnCursor(SegmentColumn column) {
+      this.column = column;
+    }
+
+    DataInputStream seek(int row) throws IOException {
+      int targetBlock = row / rowsPerBlock;
+      int targetRow = row % rowsPerBlock;
+      if (targetBlock != block || targetRow < rowInBlock) {
+        in = new DataInputStream(new ByteArrayInputStream(inflate(column.ordinal(), targetBlock)));
+        block = targetBlock;
+        rowInBlock = 0;
+      }
+      if (column.getWidth() != SegmentColumn.VARIABLE) {
+        in.skipBytes((targetRow - rowInBlock) * column.getWidth());
+      } else {
+        for (int i = rowInBlock; i < targetRow; i++) {
+          skipValue(column, in);
+        }
+      }
+      rowInBlock = targetRow + 1;
+      return in;
+    }
+
+    private byte[] inflate(int column, int block) throws IOException {
+      byte[] raw = new byte[rawLengths[column][block]];
+      Inflater inflater = new Inflater(true);
+      try {
+        ByteBuffer compressed = buffer.slice((int) blockOffsets[column][block], compressedLengths[column][block]);
+        if (OrderSegmentWriter.checksum(compressed.duplicate()) != blockChecksums[column][block]) {
+          throw new DataFormatException("Checksum mismatch");
+        }
+        inflater.setInput(compressed);
+        int read = 0;
+        while (read < raw.length && !inflater.finished()) {
+          int inflated = inflater.inflate(raw, read, raw.length - read);
+          if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+            throw new DataFormatException("Block ended after " + read + " of " + raw.length + " bytes");
+          }
+          read += inflated;
+        }
+        if (read < raw.length) {
+          throw new DataFormatException("Block ended after " + read + " of " + raw.length + " bytes");
+        }
+        return raw;
+      } catch (DataFormatException e) {
+        throw new IOException("Corrupt block " + block + " of column " + SegmentColumn.values()[column]
+            + " in segment: " + file, e);
+      } finally {
+        inflater.end();
+      }
+    }
+  }
+}
@@ -0,0 +1,255 @@
+package com.food.ordering.system.order.service.dataaccess.archive;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+
+/**
+ * Writes immutable order segment files.
+ * <pre>
+ * header     magic, version, orderCount, itemCount, rowsPerBlock, columnCount, metadataCrc
+ * directory  per column: blockCount, then per block: offset, compressedLength, rawLength, blockCrc
+ * index      orderCount entries of (trackingId msb, trackingId lsb, row) sorted by tracking id
+ * blocks     deflate compressed column blocks of rowsPerBlock values each
+ * </pre>
+ * The index stays uncompressed so a lookup can binary search it straight from the mapped file and
+ * then inflate only the blocks holding the matching row. Archived orders are deleted from the
+ * order tables, so the header, directory and index are covered by a CRC-32C checked on open and
+ * every block by one checked before it is inflated; a damaged segment fails instead of returning
+ * another order's data.
+ */
+class OrderSegmentWriter {
+  static final int MAGIC = 0x4F534547;
+  static final int VERSION = 2;
+  static final int HEADER_BYTES = 7 * Integer.BYTES;
+  static final int METADATA_CRC_OFFSET = 6 * Integer.BYTES;
+  static final int BLOCK_ENTRY_BYTES = Long.BYTES + 3 * Integer.BYTES;
+  static final int INDEX_ENTRY_BYTES = 2 * Long.BYTES + Integer.BYTES;
+  static final int MONEY_SCALE = 2;
+
+  private final int rowsPerBlock;
+
+  OrderSegmentWriter(int rowsPerBlock) {
+    this.rowsPerBlock = rowsPerBlock;
+  }
+
+  void write(Path file, List<Order> orders) throws IOException {
+    SegmentColumn[] columnTypes = SegmentColumn.values();
+    ColumnBuilder[] columns = new ColumnBuilder[columnTypes.length];
+    for (SegmentColumn column : columnTypes) {
+      columns[column.ordinal()] = new ColumnBuilder(rowsPerBlock);
+    }
+
+    int itemRow = 0;
+    for (Order order : orders) {
+      columns[SegmentColumn.ORDER_ID.ordinal()].writeUuid(order.getId().getValue());
+      columns[SegmentColumn.CUSTOMER_ID.ordinal()].writeUuid(order.getCustomerId().getValue());
+      columns[SegmentColumn.RESTAURANT_ID.ordinal()].writeUuid(order.getrestaurantId().getValue());
+      columns[SegmentColumn.PRICE.ordinal()].writeLong(toMinorUnits(order.getPrice()));
+      columns[SegmentColumn.ORDER_STATUS.ordinal()].writeByte(order.getOrderStatus().ordinal());
+      columns[SegmentColumn.ADDRESS_ID.ordinal()].writeUuid(order.getDeliveryAddress().getId());
+      columns[SegmentColumn.STREET.ordinal()].writeString(order.getDeliveryAddress().getStreet());
+      columns[SegmentColumn.POSTAL_CODE.ordinal()].writeString(order.getDeliveryAddress().getPostalCode());
+      columns[SegmentColumn.CITY.ordinal()].writeString(order.getDeliveryAddress().getCity());
+      columns[SegmentColumn.FAILURE_REASONS.ordinal()].writeFailureReasons(order.getFailureReasons());
+      columns[SegmentColumn.FIRST_ITEM.ordinal()].writeInt(itemRow);
+      columns[SegmentColumn.ITEM_COUNT.ordinal()].writeInt(order.getItems().size());
+      for (OrderItem item : order.getItems()) {
+        columns[SegmentColumn.ITEM_ID.ordinal()].writeLong(item.getId().getValue());
+        columns[SegmentColumn.PRODUCT_ID.ordinal()].writeUuid(item.getProduct().getId().getValue());
+        columns[SegmentColumn.QUANTITY.ordinal()].writeInt(item.getQuantity());
+        columns[SegmentColumn.ITEM_PRICE.ordinal()].writeLong(toMinorUnits(item.getPrice()));
+        columns[SegmentColumn.ITEM_SUB_TOTAL.ordinal()].writeLong(toMinorUnits(item.getSubTotal()));
+        itemRow++;
+      }
+    }
+
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    List<List<CompressedBlock>> blocks = new ArrayList<>(columns.length);
+    try {
+      for (ColumnBuilder column : columns) {
+        blocks.add(column.finish(deflater));
+      }
+    } finally {
+      deflater.end();
+    }
+
+    int directoryBytes = 0;
+    for (List<CompressedBlock> columnBlocks : blocks) {
+      directoryBytes += Integer.BYTES + columnBlocks.size() * BLOCK_ENTRY_BYTES;
+    }
+    int metadataBytes = HEADER_BYTES + directoryBytes + orders.size() * INDEX_ENTRY_BYTES;
+
+    ByteBuffer metadata = ByteBuffer.allocate(metadataBytes);
+    metadata.putInt(MAGIC).putInt(VERSION).putInt(orders.size()).putInt(itemRow).putInt(rowsPerBlock)
+        .putInt(columns.length).putInt(0);
+    long offset = metadataBytes;
+    for (List<CompressedBlock> columnBlocks : blocks) {
+      metadata.putInt(columnBlocks.size());
+      for (CompressedBlock block : columnBlocks) {
+        metadata.putLong(offset).putInt(block.data().length).putInt(block.rawLength())
+            .putInt(checksum(ByteBuffer.wrap(block.data())));
+        offset += block.data().length;
+      }
+    }
+    writeIndex(metadata, orders);
+    metadata.putInt(METADATA_CRC_OFFSET, metadataChecksum(metadata, metadataBytes));
+    metadata.flip();
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+      writeFully(channel, metadata);
+      for (List<CompressedBlock> columnBlocks : blocks) {
+        for (CompressedBlock block : columnBlocks) {
+          writeFully(channel, ByteBuffer.wrap(block.data()));
+        }
+      }
+      channel.force(true);
+    }
+  }
+
+  private void writeIndex(ByteBuffer metadata, List<Order> orders) {
+    Integer[] rows = new Integer[orders.size()];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = i;
+    }
+    Arrays.sort(rows, Comparator.comparing(row -> orders.get(row).getTrackingId().getValue(),
+        OrderSegmentWriter::compareUuids));
+    for (int row : rows) {
+      UUID trackingId = orders.get(row).getTrackingId().getValue();
+      metadata.putLong(trackingId.getMostSignificantBits())
+          .putLong(trackingId.getLeastSignificantBits())
+          .putInt(row);
+    }
+  }
+
+  static int compareUuids(UUID first, UUID second) {
+    int result = Long.compare(first.getMostSignificantBits(), second.getMostSignificantBits());
+    return result != 0 ? result : Long.compare(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+  }
+
+  /**
+   * CRC-32C of the header, except for the checksum itself, the directory and the index.
+   */
+  static int metadataChecksum(ByteBuffer metadata, int metadataBytes) {
+    CRC32C crc = new CRC32C();
+    crc.update(metadata.slice(0, METADATA_CRC_OFFSET));
+    crc.update(metadata.slice(HEADER_BYTES, metadataBytes - HEADER_BYTES));
+    return (int) crc.getValue();
+  }
+
+  static int checksum(ByteBuffer bytes) {
+    CRC32C crc = new CRC32C();
+    crc.update(bytes);
+    return (int) crc.getValue();
+  }
+
+  static long toMinorUnits(Money money) {
+    return money.getAmount().setScale(MONEY_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private record CompressedBlock(byte[] data, int rawLength) {
+  }
+
+  private static final class ColumnBuilder {
+    private final int rowsPerBlock;
+    private final List<byte[]> rawBlocks = new ArrayList<>();
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private int rowsInBlock;
+
+    ColumnBuilder(int rowsPerBlock) {
+      this.rowsPerBlock = rowsPerBlock;
+    }
+
+    void writeUuid(UUID value) throws IOException {
+      out.writeLong(value.getMostSignificantBits());
+      out.writeLong(value.getLeastSignificantBits());
+      endRow();
+    }
+
+    void writeLong(long value) throws IOException {
+      out.writeLong(value);
+      endRow();
+    }
+
+    void writeInt(int value) throws IOException {
+      out.writeInt(value);
+      endRow();
+    }
+
+    void writeByte(int value) throws IOException {
+      out.writeByte(value);
+      endRow();
+    }
+
+    void writeString(String value) throws IOException {
+      out.writeUTF(value);
+      endRow();
+    }
+
+    void writeFailureReasons(List<FailureReason> failureReasons) throws IOException {
+      int count = failureReasons == null ? 0 : failureReasons.size();
+      out.writeShort(count);
+      for (int i = 0; i < count; i++) {
+        FailureReason failureReason = failureReasons.get(i);
+        out.writeShort(failureReason.getCode().getCode());
+        out.writeUTF(failureReason.getParameter() == null ? "" : failureReason.getParameter());
+      }
+      endRow();
+    }
+
+    List<CompressedBlock> finish(Deflater deflater) {
+      if (rowsInBlock > 0) {
+        sealBlock();
+      }
+      List<CompressedBlock> blocks = new ArrayList<>(rawBlocks.size());
+      byte[] buffer = new byte[8192];
+      for (byte[] raw : rawBlocks) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 2 + 64);
+        while (!deflater.finished()) {
+          compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+        blocks.add(new CompressedBlock(compressed.toByteArray(), raw.length));
+      }
+      return blocks;
+    }
+
+    private void endRow() {
+      if (++rowsInBlock == rowsPerBlock) {
+        sealBlock();
+      }
+    }
+
+    private void sealBlock() {
+      rawBlocks.add(bytes.toByteArray());
+      bytes.reset();
+      rowsInBlock = 0;
+    }
+  }
+}
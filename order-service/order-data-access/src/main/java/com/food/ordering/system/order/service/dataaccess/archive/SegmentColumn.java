@@ -0,0 +1,43 @@
+package com.food.ordering.system.order.service.dataaccess.archive;
+
+/**
+ * Columns of an order segment file. Order columns hold one value per order, item columns one
+ * value per order item; FIRST_ITEM and ITEM_COUNT link the two row spaces.
+ */
+enum SegmentColumn {
+  ORDER_ID(false, 16),
+  CUSTOMER_ID(false, 16),
+  RESTAURANT_ID(false, 16),
+  PRICE(false, 8),
+  ORDER_STATUS(false, 1),
+  ADDRESS_ID(false, 16),
+  STREET(false, SegmentColumn.VARIABLE),
+  POSTAL_CODE(false, SegmentColumn.VARIABLE),
+  CITY(false, SegmentColumn.VARIABLE),
+  FAILURE_REASONS(false, SegmentColumn.VARIABLE),
+  FIRST_ITEM(false, 4),
+  ITEM_COUNT(false, 4),
+  ITEM_ID(true, 8),
+  PRODUCT_ID(true, 16),
+  QUANTITY(true, 4),
+  ITEM_PRICE(true, 8),
+  ITEM_SUB_TOTAL(true, 8);
+
+  static final int VARIABLE = -1;
+
+  private final boolean itemColumn;
+  private final int width;
+
+  SegmentColumn(boolean itemColumn, int width) {
+    this.itemColumn = itemColumn;
+    this.width = width;
+  }
+
+  boolean isItemColumn() {
+    return itemColumn;
+  }
+
+  int getWidth() {
+    return width;
+  }
+}
@@ -0,0 +1,48 @@
+package com.food.ordering.system.order.service.dataaccess.customer.adapter;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Component
+public class CustomerRepositoryImpl implements CustomerRepository {
+  private static final int ID_FETCH_SIZE = 10_000;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public CustomerRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  public Optional<Customer> findCustomer(UUID customerId) {
+    List<UUID> ids = jdbcTemplate.queryForList("SELECT id FROM customers WHERE id = :id",
+        new MapSqlParameterSource("id", customerId), UUID.class);
+    return ids.stream().findFirst().map(id -> new Customer(new CustomerId(id)));
+  }
+
+  @Override
+  public Customer save(Customer customer) {
+    jdbcTemplate.update("INSERT INTO customers (id) VALUES (:id) ON CONFLICT DO NOTHING",
+        new MapSqlParameterSource("id", customer.getId().getValue()));
+    return customer;
+  }
+
+  @Override
+  public void forEachCustomerId(Consumer<UUID> consumer) {
+    JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+    streaming.setFetchSize(ID_FETCH_SIZE);
+    streaming.query("SELECT id FROM customers", resultSet -> {
+      consumer.accept(resultSet.getObject(1, UUID.class));
+    });
+  }
+}
@@ -0,0 +1,286 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.address.DeliveryAddressStore;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+@Component
+public class OrderRepositoryImpl implements OrderRepository {
+  private static final String SELECT_ORDERS = """
+      SELECT o.id, o.customer_id, o.restaurant_id, o.tracking_id, o.price, o.order_status,
+             a.id AS address_id, a.street, a.postal_code, a.city
+      FROM orders o
+      JOIN delivery_addresses a ON a.id = o.delivery_address_id
+      """;
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final DeliveryAddressStore deliveryAddressStore;
+  private final TransactionTemplate transactionTemplate;
+
+  public OrderRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, DeliveryAddressStore deliveryAddressStore,
+                             TransactionTemplate transactionTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.deliveryAddressStore = deliveryAddressStore;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  /**
+   * Writes the order row, its items and its failure reasons in one transaction, joining the
+   * caller's when there is one. Of two concurrent first saves of an order, one fails on the
+   * primary key and rolls back whole.
+   */
+  @Override
+  public Order save(Order order) {
+    return transactionTemplate.execute(status -> saveOrder(order));
+  }
+
+  private Order saveOrder(Order order) {
+    MapSqlParameterSource orderParameters = new MapSqlParameterSource()
+        .addValue("id", order.getId().getValue())
+        .addValue("orderStatus", order.getOrderStatus().name());
+    int updated = jdbcTemplate.update("UPDATE orders SET order_status = :orderStatus WHERE id = :id", orderParameters);
+    if (updated == 0) {
+      insertOrder(order);
+    } else {
+      jdbcTemplate.update("DELETE FROM order_failure_reasons WHERE order_id = :id", orderParameters);
+    }
+    insertFailureReasons(order);
+    return order;
+  }
+
+  @Override
+  public Optional<Order> findByTrackingId(TrackingId trackingId) {
+    List<Order> orders = findOrders(SELECT_ORDERS + "WHERE o.tracking_id = :trackingId",
+        new MapSqlParameterSource("trackingId", trackingId.getValue()));
+    return orders.stream().findFirst();
+  }
+
+  @Override
+  public List<Order> findByTrackingIdIn(Collection<TrackingId> trackingIds) {
+    if (trackingIds.isEmpty()) {
+      return List.of();
+    }
+    return findOrders(SELECT_ORDERS + "WHERE o.tracking_id IN (:trackingIds)",
+        new MapSqlParameterSource("trackingIds", trackingIds.stream().map(TrackingId::getValue).toList()));
+  }
+
+  @Override
+  public List<Order> findByOrderStatusIn(Collection<OrderStatus> orderStatuses, int limit) {
+    return findOrders(SELECT_ORDERS + "WHERE o.order_status IN (:orderStatuses) ORDER BY o.id LIMIT :limit",
+        new MapSqlParameterSource()
+            .addValue("orderStatuses", orderStatuses.stream().map(Enum::name).toList())
+            .addValue("limit", limit));
+  }
+
+  @Override
+  public void deleteAllById(Collection<OrderId> orderIds) {
+    if (orderIds.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.update("DELETE FROM orders WHERE id IN (:ids)",
+        new MapSqlParameterSource("ids", orderIds.stream().map(OrderId::getValue).toList()));
+  }
+
+  @Override
+  public void forEachTrackingIdInStatus(Collection<OrderStatus> orderStatuses,
+                                        BiConsumer<TrackingId, OrderStatus> consumer) {
+    jdbcTemplate.query("SELECT tracking_id, order_status FROM orders WHERE order_status IN (:orderStatuses)",
+        new MapSqlParameterSource("orderStatuses", orderStatuses.stream().map(Enum::name).toList()),
+        resultSet -> {
+          consumer.accept(new TrackingId(resultSet.getObject("tracking_id", UUID.class)),
+              OrderStatus.valueOf(resultSet.getString("order_status")));
+        });
+  }
+
+  @Override
+  public Map<RestaurantId, Map<OrderStatus, Long>> countByRestaurantIdAndOrderStatus() {
+    Map<RestaurantId, Map<OrderStatus, Long>> counts = new HashMap<>();
+    jdbcTemplate.query("""
+            SELECT restaurant_id, order_status, COUNT(*) AS order_count
+            FROM orders GROUP BY restaurant_id, order_status
+            """, new MapSqlParameterSource(),
+        resultSet -> {
+          counts.computeIfAbsent(new RestaurantId(resultSet.getObject("restaurant_id", UUID.class)),
+                  id -> new EnumMap<>(OrderStatus.class))
+              .put(OrderStatus.valueOf(resultSet.getString("order_status")), resultSet.getLong("order_count"));
+        });
+    return counts;
+  }
+
+  /**
+   * Orders of one restaurant in id order, used to move a restaurant between shards.
+   */
+  public List<Order> findByRestaurantId(RestaurantId restaurantId, int limit) {
+    return findOrders(SELECT_ORDERS + "WHERE o.restaurant_id = :restaurantId ORDER BY o.id LIMIT :limit",
+        new MapSqlParameterSource()
+            .addValue("restaurantId", restaurantId.getValue())
+            .addValue("limit", limit));
+  }
+
+  public List<RestaurantId> findRestaurantIds() {
+    return jdbcTemplate.queryForList("SELECT DISTINCT restaurant_id FROM orders", new MapSqlParameterSource(),
+        UUID.class).stream().map(RestaurantId::new).toList();
+  }
+
+  private void insertOrder(Order order) {
+    jdbcTemplate.update("""
+            INSERT INTO orders (id, customer_id, restaurant_id, tracking_id, price, order_status, delivery_address_id)
+            VALUES (:id, :customerId, :restaurantId, :trackingId, :price, :orderStatus, :deliveryAddressId)
+            """,
+        new MapSqlParameterSource()
+            .addValue("id", order.getId().getValue())
+            .addValue("customerId", order.getCustomerId().getValue())
+            .addValue("restaurantId", order.getrestaurantId().getValue())
+            .addValue("trackingId", order.getTrackingId().getValue())
+            .addValue("price", order.getPrice().getAmount())
+            .addValue("orderStatus", order.getOrderStatus().name())
+            .addValue("deliveryAddressId", deliveryAddressStore.intern(order.getDeliveryAddress())));
+
+    List<OrderItem> items = order.getItems();
+    SqlParameterSource[] itemParameters = new SqlParameterSource[items.size()];
+    for (int i = 0; i < items.size(); i++) {
+      OrderItem item = items.get(i);
+      itemParameters[i] = new MapSqlParameterSource()
+          .addValue("id", item.getId().getValue())
+          .addValue("orderId", order.getId().getValue())
+          .addValue("productId", item.getProduct().getId().getValue())
+          .addValue("price", item.getPrice().getAmount())
+          .addValue("quantity", item.getQuantity())
+          .addValue("subTotal", item.getSubTotal().getAmount());
+    }
+    jdbcTemplate.batchUpdate("""
+        INSERT INTO order_items (id, order_id, product_id, price, quantity, sub_total)
+        VALUES (:id, :orderId, :productId, :price, :quantity, :subTotal)
+        """, itemParameters);
+  }
+
+  private void insertFailureReasons(Order order) {
+    List<FailureReason> failureReasons = order.getFailureReasons();
+    if (failureReasons == null || failureReasons.isEmpty()) {
+      return;
+    }
+    SqlParameterSource[] parameters = new SqlParameterSource[failureReasons.size()];
+    for (int i = 0; i < failureReasons.size(); i++) {
+      FailureReason failureReason = failureReasons.get(i);
+      parameters[i] = new MapSqlParameterSource()
+          .addValue("orderId", order.getId().getValue())
+          .addValue("seq", i)
+          .addValue("code", failureReason.getCode().getCode())
+          .addValue("parameter", failureReason.getParameter());
+    }
+    jdbcTemplate.batchUpdate("""
+        INSERT INTO order_failure_reasons (order_id, seq, code, parameter)
+        VALUES (:orderId, :seq, :code, :parameter)
+        """, parameters);
+  }
+
+  private List<Order> findOrders(String sql, SqlParameterSource parameters) {
+    Map<UUID, OrderRow> rows = new LinkedHashMap<>();
+    jdbcTemplate.query(sql, parameters, resultSet -> {
+      OrderRow row = toOrderRow(resultSet);
+      rows.put(row.id(), row);
+    });
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+
+    MapSqlParameterSource orderIds = new MapSqlParameterSource("orderIds", rows.keySet());
+    Map<UUID, List<OrderItem>> items = new HashMap<>();
+    jdbcTemplate.query("""
+            SELECT order_id, id, product_id, price, quantity, sub_total
+            FROM order_items WHERE order_id IN (:orderIds) ORDER BY order_id, id
+            """, orderIds,
+        resultSet -> {
+          items.computeIfAbsent(resultSet.getObject("order_id", UUID.class), id -> new ArrayList<>())
+              .add(toOrderItem(resultSet));
+        });
+    Map<UUID, List<FailureReason>> failureReasons = new HashMap<>();
+    jdbcTemplate.query("""
+            SELECT order_id, code, parameter
+            FROM order_failure_reasons WHERE order_id IN (:orderIds) ORDER BY order_id, seq
+            """, orderIds,
+        resultSet -> {
+          failureReasons.computeIfAbsent(resultSet.getObject("order_id", UUID.class), id -> new ArrayList<>())
+              .add(FailureReason.of(resultSet.getShort("code"), resultSet.getString("parameter")));
+        });
+
+    List<Order> orders = new ArrayList<>(rows.size());
+    for (OrderRow row : rows.values()) {
+      orders.add(toOrder(row, items.getOrDefault(row.id(), new ArrayList<>()), failureReasons.get(row.id())));
+    }
+    return orders;
+  }
+
+  private OrderRow toOrderRow(ResultSet resultSet) throws SQLException {
+    return new OrderRow(
+        resultSet.getObject("id", UUID.class),
+        resultSet.getObject("customer_id", UUID.class),
+        resultSet.getObject("restaurant_id", UUID.class),
+        resultSet.getObject("tracking_id", UUID.class),
+        new Money(resultSet.getBigDecimal("price")),
+        OrderStatus.valueOf(resultSet.getString("order_status")),
+        new StreetAddress(resultSet.getObject("address_id", UUID.class), resultSet.getString("street"),
+            resultSet.getString("postal_code"), resultSet.getString("city")));
+  }
+
+  private OrderItem toOrderItem(ResultSet resultSet) throws SQLException {
+    Money price = new Money(resultSet.getBigDecimal("price"));
+    OrderItem orderItem = OrderItem.Builder.builder()
+        .orderItemId(new OrderItemId(resultSet.getLong("id")))
+        .product(new Product(new ProductId(resultSet.getObject("product_id", UUID.class)), null, price))
+        .price(price)
+        .quantity(resultSet.getInt("quantity"))
+        .subTotal(new Money(resultSet.getBigDecimal("sub_total")))
+        .build();
+    orderItem.setOrderId(new OrderId(resultSet.getObject("order_id", UUID.class)));
+    return orderItem;
+  }
+
+  private Order toOrder(OrderRow row, List<OrderItem> items, List<FailureReason> failureReasons) {
+    return Order.Builder.builder()
+        .orderId(new OrderId(row.id()))
+        .customerId(new CustomerId(row.customerId()))
+        .restaurantId(new RestaurantId(row.restaurantId()))
+        .trackingId(new TrackingId(row.trackingId()))
+        .price(row.price())
+        .orderStatus(row.orderStatus())
+        .deliveryAddress(row.deliveryAddress())
+        .items(items)
+        .failureReasons(failureReasons)
+        .build();
+  }
+
+  private record OrderRow(UUID id, UUID customerId, UUID restaurantId, UUID trackingId, Money price,
+                          OrderStatus orderStatus, StreetAddress deliveryAddress) {
+  }
+}
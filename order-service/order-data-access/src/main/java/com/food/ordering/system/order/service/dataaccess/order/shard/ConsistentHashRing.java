@@ -0,0 +1,81 @@
+package com.food.ordering.system.order.service.dataaccess.order.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Consistent hash ring over shard names. Every shard owns {@code virtualNodes} points on a 64-bit
+ * ring and a key belongs to the shard owning the first point at or after its hash, so adding or
+ * removing a shard only moves the keys of the points it gains or loses. Points depend on shard
+ * names alone, which keeps the ring stable across restarts and configuration reordering.
+ */
+public final class ConsistentHashRing {
+  private final long[] points;
+  private final int[] owners;
+  private final int shardCount;
+
+  public ConsistentHashRing(List<String> shardNames, int virtualNodes) {
+    if (shardNames.isEmpty() || virtualNodes <= 0) {
+      throw new IllegalArgumentException("A hash ring needs at least one shard and one virtual node per shard");
+    }
+    this.shardCount = shardNames.size();
+    long[][] entries = new long[shardCount * virtualNodes][];
+    for (int shard = 0; shard < shardCount; shard++) {
+      for (int node = 0; node < virtualNodes; node++) {
+        entries[shard * virtualNodes + node] = new long[]{hash(shardNames.get(shard) + '#' + node), shard};
+      }
+    }
+    Arrays.sort(entries, (first, second) -> Long.compare(first[0], second[0]));
+    this.points = new long[entries.length];
+    this.owners = new int[entries.length];
+    for (int i = 0; i < entries.length; i++) {
+      points[i] = entries[i][0];
+      owners[i] = (int) entries[i][1];
+    }
+  }
+
+  /**
+   * @return the index, in the list the ring was built from, of the shard owning {@code key}.
+   */
+  public int shardFor(UUID key) {
+    if (shardCount == 1) {
+      return 0;
+    }
+    int index = Arrays.binarySearch(points, hash(key));
+    if (index < 0) {
+      index = -index - 1;
+    }
+    return owners[index == points.length ? 0 : index];
+  }
+
+  public int getShardCount() {
+    return shardCount;
+  }
+
+  static long hash(UUID key) {
+    return mix(key.getMostSignificantBits() ^ mix(key.getLeastSignificantBits()));
+  }
+
+  /**
+   * FNV-1a over the UTF-8 bytes, finished with a 64-bit mix so that similar names spread evenly.
+   */
+  static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
+  }
+}
@@ -0,0 +1,51 @@
+package com.food.ordering.system.order.service.dataaccess.order.shard;
+
+import com.food.ordering.system.order.service.dataaccess.order.adapter.OrderRepositoryImpl;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * One order database: its connection pool, transactions and the repository reading and writing
+ * the order tables in it.
+ */
+public final class OrderShard {
+  private final String name;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final OrderRepositoryImpl repository;
+
+  OrderShard(String name,
+             NamedParameterJdbcTemplate jdbcTemplate,
+             TransactionTemplate transactionTemplate,
+             OrderRepositoryImpl repository) {
+    this.name = name;
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.repository = repository;
+  }
+
+  /**
+   * Runs {@code action} in a transaction of this shard, joining one already open on it.
+   */
+  public <T> T inTransaction(Supplier<T> action) {
+    return transactionTemplate.execute(status -> action.get());
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public NamedParameterJdbcTemplate getJdbcTemplate() {
+    return jdbcTemplate;
+  }
+
+  public TransactionTemplate getTransactionTemplate() {
+    return transactionTemplate;
+  }
+
+  public OrderRepositoryImpl getRepository() {
+    return repository;
+  }
+}
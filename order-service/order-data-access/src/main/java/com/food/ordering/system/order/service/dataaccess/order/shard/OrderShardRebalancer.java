@@ -0,0 +1,120 @@
+package com.food.ordering.system.order.service.dataaccess.order.shard;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Moves orders to the shard their restaurant hashes to under the current shard configuration,
+ * after shards were added or removed. Every shard is scanned for restaurants it no longer owns
+ * and their orders are copied to the owning shard and then deleted from the old one, a batch at
+ * a time. Copies are idempotent, so an interrupted run is finished by running it again.
+ * <p>
+ * Runs on start when {@code order-service.sharding.rebalance-on-start} is set, before pending
+ * order states are recovered and before any request is served; it is not meant to run alongside
+ * traffic.
+ */
+@Slf4j
+@Component
+public class OrderShardRebalancer implements SmartLifecycle {
+  private final OrderShards shards;
+  private final ShardedOrderRepository shardedOrderRepository;
+  private final OrderShardingConfigData config;
+  private volatile boolean running;
+
+  public OrderShardRebalancer(OrderShards shards,
+                              ShardedOrderRepository shardedOrderRepository,
+                              OrderShardingConfigData config) {
+    this.shards = shards;
+    this.shardedOrderRepository = shardedOrderRepository;
+    this.config = config;
+  }
+
+  public RebalanceSummary rebalance() {
+    List<Supplier<RebalanceSummary>> tasks = new ArrayList<>(shards.size());
+    for (OrderShard shard : shards.getShards()) {
+      tasks.add(() -> drain(shard));
+    }
+    RebalanceSummary total = new RebalanceSummary(0, 0);
+    for (RebalanceSummary summary : shards.invokeAll(tasks)) {
+      total = new RebalanceSummary(total.restaurants() + summary.restaurants(), total.orders() + summary.orders());
+    }
+    shardedOrderRepository.clearLocations();
+    log.info("Rebalanced {} orders of {} restaurants across {} shards", total.orders(), total.restaurants(),
+        shards.size());
+    return total;
+  }
+
+  @Override
+  public void start() {
+    if (config.isRebalanceOnStart() && shards.isSharded()) {
+      rebalance();
+    }
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Runs before write-behind persistence recovers logged states onto the shards.
+   */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 5120;
+  }
+
+  private RebalanceSummary drain(OrderShard source) {
+    int restaurants = 0;
+    long orders = 0;
+    for (RestaurantId restaurantId : source.getRepository().findRestaurantIds()) {
+      OrderShard target = shards.shardFor(restaurantId.getValue());
+      if (target == source) {
+        continue;
+      }
+      long moved = move(restaurantId, source, target);
+      log.info("Moved {} orders from shard {} to shard {}. RestaurantId: {}", moved, source.getName(),
+          target.getName(), restaurantId.getValue());
+      restaurants++;
+      orders += moved;
+    }
+    return new RebalanceSummary(restaurants, orders);
+  }
+
+  private long move(RestaurantId restaurantId, OrderShard source, OrderShard target) {
+    long moved = 0;
+    List<Order> batch;
+    while (!(batch = source.getRepository().findByRestaurantId(restaurantId, config.getRebalanceBatchSize()))
+        .isEmpty()) {
+      List<Order> orders = batch;
+      target.inTransaction(() -> {
+        orders.forEach(target.getRepository()::save);
+        return null;
+      });
+      List<OrderId> orderIds = orders.stream().map(Order::getId).toList();
+      source.inTransaction(() -> {
+        source.getRepository().deleteAllById(orderIds);
+        return null;
+      });
+      moved += orders.size();
+    }
+    return moved;
+  }
+
+  public record RebalanceSummary(int restaurants, long orders) {
+  }
+}
@@ -0,0 +1,30 @@
+package com.food.ordering.system.order.service.dataaccess.order.shard;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.sharding")
+public class OrderShardingConfigData {
+  private boolean enabled = false;
+  private int virtualNodes = 128;
+  private boolean initializeSchema = true;
+  private int locationCacheSize = 100_000;
+  private boolean rebalanceOnStart = false;
+  private int rebalanceBatchSize = 500;
+  private List<Shard> shards = new ArrayList<>();
+
+  @Data
+  public static class Shard {
+    private String name;
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+  }
+}
@@ -0,0 +1,159 @@
+package com.food.ordering.system.order.service.dataaccess.order.shard;
+
+import com.food.ordering.system.order.service.dataaccess.address.DeliveryAddressStore;
+import com.food.ordering.system.order.service.dataaccess.order.adapter.OrderRepositoryImpl;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The order databases and the ring routing restaurants to them. With sharding disabled there is
+ * a single shard on the application data source, so every caller takes the same path either way.
+ * With sharding enabled every shard gets its own connection pool, and work spanning shards runs
+ * on one thread per shard.
+ */
+@Slf4j
+@Component
+public class OrderShards implements DisposableBean {
+  private static final String PRIMARY_SHARD = "primary";
+
+  private final List<OrderShard> shards = new ArrayList<>();
+  private final List<HikariDataSource> dataSources = new ArrayList<>();
+  private final ConsistentHashRing ring;
+  private final ExecutorService executor;
+
+  public OrderShards(OrderShardingConfigData config,
+                     OrderRepositoryImpl orderRepository,
+                     NamedParameterJdbcTemplate jdbcTemplate,
+                     TransactionTemplate transactionTemplate,
+                     @Value("${order-service.address.cache-size:100000}") int addressCacheSize) {
+    if (!config.isEnabled()) {
+      shards.add(new OrderShard(PRIMARY_SHARD, jdbcTemplate, transactionTemplate, orderRepository));
+      this.ring = new ConsistentHashRing(List.of(PRIMARY_SHARD), 1);
+      this.executor = null;
+      return;
+    }
+    if (config.getShards().isEmpty()) {
+      throw new IllegalStateException("order-service.sharding.enabled requires at least one shard");
+    }
+    for (OrderShardingConfigData.Shard shard : config.getShards()) {
+      shards.add(openShard(shard, config.isInitializeSchema(), addressCacheSize));
+    }
+    this.ring = new ConsistentHashRing(shards.stream().map(OrderShard::getName).toList(), config.getVirtualNodes());
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor = Executors.newFixedThreadPool(shards.size(), runnable -> {
+      Thread thread = new Thread(runnable, "order-shard-" + threadNumber.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    });
+    log.info("Order tables sharded by restaurant over {} databases: {}", shards.size(),
+        shards.stream().map(OrderShard::getName).toList());
+  }
+
+  public OrderShard shardFor(UUID restaurantId) {
+    return shards.get(ring.shardFor(restaurantId));
+  }
+
+  public List<OrderShard> getShards() {
+    return shards;
+  }
+
+  public int size() {
+    return shards.size();
+  }
+
+  public boolean isSharded() {
+    return shards.size() > 1;
+  }
+
+  public <T> List<T> onEachShard(Function<OrderShard, T> action) {
+    List<Supplier<T>> tasks = new ArrayList<>(shards.size());
+    for (OrderShard shard : shards) {
+      tasks.add(() -> action.apply(shard));
+    }
+    return invokeAll(tasks);
+  }
+
+  /**
+   * Runs the tasks in parallel, the last one on the calling thread, and returns their results in
+   * order. A failure is rethrown once every task has finished.
+   */
+  public <T> List<T> invokeAll(List<Supplier<T>> tasks) {
+    if (tasks.size() == 1 || executor == null) {
+      List<T> results = new ArrayList<>(tasks.size());
+      for (Supplier<T> task : tasks) {
+        results.add(task.get());
+      }
+      return results;
+    }
+    List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+    for (int i = 0; i < tasks.size() - 1; i++) {
+      futures.add(CompletableFuture.supplyAsync(tasks.get(i), executor));
+    }
+    CompletableFuture<T> last;
+    try {
+      last = CompletableFuture.completedFuture(tasks.get(tasks.size() - 1).get());
+    } catch (RuntimeException e) {
+      last = CompletableFuture.failedFuture(e);
+    }
+    futures.add(last);
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+    List<T> results = new ArrayList<>(tasks.size());
+    for (CompletableFuture<T> future : futures) {
+      try {
+        results.add(future.join());
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+    }
+    return results;
+  }
+
+  @Override
+  public void destroy() {
+    if (executor != null) {
+      executor.shutdown();
+    }
+    dataSources.forEach(HikariDataSource::close);
+  }
+
+  private OrderShard openShard(OrderShardingConfigData.Shard shard, boolean initializeSchema, int addressCacheSize) {
+    HikariConfig hikariConfig = new HikariConfig();
+    hikariConfig.setPoolName("order-shard-" + shard.getName());
+    hikariConfig.setJdbcUrl(shard.getUrl());
+    hikariConfig.setUsername(shard.getUsername());
+    hikariConfig.setPassword(shard.getPassword());
+    hikariConfig.setMaximumPoolSize(shard.getMaximumPoolSize());
+    HikariDataSource dataSource = new HikariDataSource(hikariConfig);
+    dataSources.add(dataSource);
+    if (initializeSchema) {
+      DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource("init-schema.sql")),
+          dataSource);
+    }
+    NamedParameterJdbcTemplate shardJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    TransactionTemplate shardTransactionTemplate = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+    return new OrderShard(shard.getName(), shardJdbcTemplate, shardTransactionTemplate,
+        new OrderRepositoryImpl(shardJdbcTemplate, new DeliveryAddressStore(shardJdbcTemplate, addressCacheSize),
+            shardTransactionTemplate));
+  }
+}
@@ -0,0 +1,212 @@
+package com.food.ordering.system.order.service.dataaccess.order.shard;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Routes orders to the shard of their restaurant. A tracking id does not name its restaurant, so
+ * the restaurant of every order saved or found here is remembered in a bounded location cache;
+ * a tracking id that is not cached, or no longer found where the cache points, is looked up on
+ * all shards in parallel. Every shard write is a transaction of that shard.
+ */
+@Component
+public class ShardedOrderRepository implements OrderRepository {
+  private final OrderShards shards;
+  private final int locationCacheSize;
+  private final ConcurrentMap<TrackingId, UUID> restaurantByTrackingId = new ConcurrentHashMap<>();
+
+  public ShardedOrderRepository(OrderShards shards, OrderShardingConfigData config) {
+    this.shards = shards;
+    this.locationCacheSize = config.getLocationCacheSize();
+  }
+
+  @Override
+  public Order save(Order order) {
+    UUID restaurantId = order.getrestaurantId().getValue();
+    OrderShard shard = shards.shardFor(restaurantId);
+    shard.inTransaction(() -> shard.getRepository().save(order));
+    remember(order);
+    return order;
+  }
+
+  @Override
+  public Optional<Order> findByTrackingId(TrackingId trackingId) {
+    if (!shards.isSharded()) {
+      return shards.getShards().get(0).getRepository().findByTrackingId(trackingId);
+    }
+    UUID restaurantId = restaurantByTrackingId.get(trackingId);
+    if (restaurantId != null) {
+      Optional<Order> order = shards.shardFor(restaurantId).getRepository().findByTrackingId(trackingId);
+      if (order.isPresent()) {
+        return order;
+      }
+      restaurantByTrackingId.remove(trackingId, restaurantId);
+    }
+    for (Optional<Order> order : shards.onEachShard(shard -> shard.getRepository().findByTrackingId(trackingId))) {
+      if (order.isPresent()) {
+        remember(order.get());
+        return order;
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public List<Order> findByTrackingIdIn(Collection<TrackingId> trackingIds) {
+    if (!shards.isSharded() || trackingIds.isEmpty()) {
+      return shards.getShards().get(0).getRepository().findByTrackingIdIn(trackingIds);
+    }
+    Map<OrderShard, List<TrackingId>> located = new LinkedHashMap<>();
+    List<TrackingId> unlocated = new ArrayList<>();
+    for (TrackingId trackingId : trackingIds) {
+      UUID restaurantId = restaurantByTrackingId.get(trackingId);
+      if (restaurantId == null) {
+        unlocated.add(trackingId);
+      } else {
+        located.computeIfAbsent(shards.shardFor(restaurantId), shard -> new ArrayList<>()).add(trackingId);
+      }
+    }
+    List<Order> orders = new ArrayList<>(trackingIds.size());
+    Set<TrackingId> found = new HashSet<>();
+    collect(findOnShards(located, unlocated), orders, found);
+
+    List<TrackingId> moved = new ArrayList<>();
+    for (List<TrackingId> locatedIds : located.values()) {
+      for (TrackingId trackingId : locatedIds) {
+        if (!found.contains(trackingId)) {
+          restaurantByTrackingId.remove(trackingId);
+          moved.add(trackingId);
+        }
+      }
+    }
+    if (!moved.isEmpty()) {
+      collect(findOnShards(Map.of(), moved), orders, found);
+    }
+    return orders;
+  }
+
+  /**
+   * Takes up to {@code limit} orders from each shard and returns at most {@code limit} of them.
+   */
+  @Override
+  public List<Order> findByOrderStatusIn(Collection<OrderStatus> orderStatuses, int limit) {
+    List<Order> orders = new ArrayList<>();
+    for (List<Order> shardOrders : shards.onEachShard(shard ->
+        shard.getRepository().findByOrderStatusIn(orderStatuses, limit))) {
+      orders.addAll(shardOrders.subList(0, Math.min(shardOrders.size(), limit - orders.size())));
+    }
+    return orders;
+  }
+
+  /**
+   * Deletes on every shard; an order id that is not on a shard is a no-op there.
+   */
+  @Override
+  public void deleteAllById(Collection<OrderId> orderIds) {
+    if (orderIds.isEmpty()) {
+      return;
+    }
+    shards.onEachShard(shard -> shard.inTransaction(() -> {
+      shard.getRepository().deleteAllById(orderIds);
+      return null;
+    }));
+  }
+
+  @Override
+  public void forEachTrackingIdInStatus(Collection<OrderStatus> orderStatuses,
+                                        BiConsumer<TrackingId, OrderStatus> consumer) {
+    for (OrderShard shard : shards.getShards()) {
+      shard.getRepository().forEachTrackingIdInStatus(orderStatuses, consumer);
+    }
+  }
+
+  /**
+   * Sums the counts of every shard, a restaurant being moved may have orders on two of them.
+   */
+  @Override
+  public Map<RestaurantId, Map<OrderStatus, Long>> countByRestaurantIdAndOrderStatus() {
+    Map<RestaurantId, Map<OrderStatus, Long>> counts = new HashMap<>();
+    for (Map<RestaurantId, Map<OrderStatus, Long>> shardCounts :
+        shards.onEachShard(shard -> shard.getRepository().countByRestaurantIdAndOrderStatus())) {
+      shardCounts.forEach((restaurantId, byStatus) -> {
+        Map<OrderStatus, Long> merged = counts.computeIfAbsent(restaurantId, id -> new EnumMap<>(OrderStatus.class));
+        byStatus.forEach((orderStatus, count) -> merged.merge(orderStatus, count, Long::sum));
+      });
+    }
+    return counts;
+  }
+
+  /**
+   * Forgets every cached location, after orders moved between shards.
+   */
+  public void clearLocations() {
+    restaurantByTrackingId.clear();
+  }
+
+  private List<List<Order>> findOnShards(Map<OrderShard, List<TrackingId>> located, List<TrackingId> unlocated) {
+    List<Supplier<List<Order>>> tasks = new ArrayList<>(shards.size());
+    for (OrderShard shard : shards.getShards()) {
+      List<TrackingId> ids = new ArrayList<>(located.getOrDefault(shard, List.of()));
+      ids.addAll(unlocated);
+      if (!ids.isEmpty()) {
+        tasks.add(() -> shard.getRepository().findByTrackingIdIn(ids));
+      }
+    }
+    return tasks.isEmpty() ? List.of() : shards.invokeAll(tasks);
+  }
+
+  private void collect(List<List<Order>> shardOrders, List<Order> orders, Set<TrackingId> found) {
+    for (List<Order> batch : shardOrders) {
+      for (Order order : batch) {
+        if (found.add(order.getTrackingId())) {
+          orders.add(order);
+          remember(order);
+        }
+      }
+    }
+  }
+
+  private void remember(Order order) {
+    if (!shards.isSharded()) {
+      return;
+    }
+    if (restaurantByTrackingId.size() >= locationCacheSize) {
+      evict();
+    }
+    restaurantByTrackingId.put(order.getTrackingId(), order.getrestaurantId().getValue());
+  }
+
+  /**
+   * Drops roughly an eighth of the cache in hash order; an evicted location costs one fan-out.
+   */
+  private void evict() {
+    int toRemove = Math.max(1, locationCacheSize / 8);
+    Iterator<TrackingId> keys = restaurantByTrackingId.keySet().iterator();
+    while (toRemove-- > 0 && keys.hasNext()) {
+      keys.next();
+      keys.remove();
+    }
+  }
+}
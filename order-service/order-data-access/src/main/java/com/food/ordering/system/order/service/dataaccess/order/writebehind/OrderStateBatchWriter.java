@@ -0,0 +1,108 @@
+package com.food.ordering.system.order.service.dataaccess.order.writebehind;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.order.service.dataaccess.order.shard.OrderShard;
+import com.food.ordering.system.order.service.dataaccess.order.shard.OrderShards;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Applies coalesced order states to the order tables, one JDBC batch per statement and one
+ * transaction per shard and flush. Shards are written in parallel. A change without a route, or
+ * whose order was not found on the shard of its restaurant, is written to every shard, where
+ * it only touches the shard holding the order.
+ */
+@Component
+public class OrderStateBatchWriter {
+  private static final int MAX_IN_LIST = 1_000;
+
+  private final OrderShards shards;
+
+  public OrderStateBatchWriter(OrderShards shards) {
+    this.shards = shards;
+  }
+
+  void write(List<OrderStateChange> changes) {
+    if (changes.isEmpty()) {
+      return;
+    }
+    if (!shards.isSharded()) {
+      write(shards.getShards().get(0), changes);
+      return;
+    }
+    Map<OrderShard, List<OrderStateChange>> routed = new LinkedHashMap<>();
+    List<OrderStateChange> unrouted = new ArrayList<>();
+    for (OrderStateChange change : changes) {
+      if (change.restaurantId() == null) {
+        unrouted.add(change);
+      } else {
+        routed.computeIfAbsent(shards.shardFor(change.restaurantId()), shard -> new ArrayList<>()).add(change);
+      }
+    }
+    List<Supplier<List<OrderStateChange>>> tasks = new ArrayList<>(routed.size());
+    routed.forEach((shard, shardChanges) -> tasks.add(() -> write(shard, shardChanges)));
+    if (!tasks.isEmpty()) {
+      shards.invokeAll(tasks).forEach(unrouted::addAll);
+    }
+    if (!unrouted.isEmpty()) {
+      shards.onEachShard(shard -> write(shard, unrouted));
+    }
+  }
+
+  /**
+   * @return the changes whose order is not in {@code shard}.
+   */
+  private List<OrderStateChange> write(OrderShard shard, List<OrderStateChange> changes) {
+    NamedParameterJdbcTemplate jdbcTemplate = shard.getJdbcTemplate();
+    return shard.inTransaction(() -> {
+      SqlParameterSource[] statusParameters = new SqlParameterSource[changes.size()];
+      List<SqlParameterSource> reasonParameters = new ArrayList<>();
+      for (int i = 0; i < changes.size(); i++) {
+        OrderStateChange change = changes.get(i);
+        statusParameters[i] = new MapSqlParameterSource()
+            .addValue("id", change.orderId())
+            .addValue("orderStatus", change.orderStatus().name());
+        List<FailureReason> failureReasons = change.failureReasons();
+        for (int seq = 0; seq < failureReasons.size(); seq++) {
+          reasonParameters.add(new MapSqlParameterSource()
+              .addValue("orderId", change.orderId())
+              .addValue("seq", seq)
+              .addValue("code", failureReasons.get(seq).getCode().getCode())
+              .addValue("parameter", failureReasons.get(seq).getParameter()));
+        }
+      }
+      int[] updated = jdbcTemplate.batchUpdate("UPDATE orders SET order_status = :orderStatus WHERE id = :id",
+          statusParameters);
+
+      List<UUID> orderIds = changes.stream().map(OrderStateChange::orderId).toList();
+      for (int from = 0; from < orderIds.size(); from += MAX_IN_LIST) {
+        List<UUID> chunk = orderIds.subList(from, Math.min(from + MAX_IN_LIST, orderIds.size()));
+        jdbcTemplate.update("DELETE FROM order_failure_reasons WHERE order_id IN (:ids)",
+            new MapSqlParameterSource("ids", chunk));
+      }
+      if (!reasonParameters.isEmpty()) {
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO order_failure_reasons (order_id, seq, code, parameter)
+            SELECT :orderId, :seq, :code, :parameter WHERE EXISTS (SELECT 1 FROM orders WHERE id = :orderId)
+            """, reasonParameters.toArray(SqlParameterSource[]::new));
+      }
+
+      List<OrderStateChange> missed = new ArrayList<>();
+      for (int i = 0; i < updated.length; i++) {
+        if (updated[i] == 0) {
+          missed.add(changes.get(i));
+        }
+      }
+      return missed;
+    });
+  }
+}
@@ -0,0 +1,22 @@
+package com.food.ordering.system.order.service.dataaccess.order.writebehind;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * State of an order after a transition. Later sequence numbers supersede earlier ones, which is
+ * what lets several transitions of one order collapse into a single update.
+ * <p>
+ * {@code restaurantId} routes the change to its shard. It is not logged, so changes replayed from
+ * the log carry {@code null} and are written to every shard.
+ */
+record OrderStateChange(long sequence, UUID orderId, UUID restaurantId, OrderStatus orderStatus,
+                        List<FailureReason> failureReasons) {
+
+  static OrderStateChange latest(OrderStateChange first, OrderStateChange second) {
+    return second.sequence() > first.sequence() ? second : first;
+  }
+}
@@ -0,0 +1,357 @@
+package com.food.ordering.system.order.service.dataaccess.order.writebehind;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of order state changes with group commit: a single writer thread drains every
+ * request queued while the previous fsync was running, writes them with one channel write and
+ * forces the file once for the whole group.
+ * <p>
+ * Record layout: {@code int length | int crc32c | long sequence | uuid orderId | byte status |
+ * short reasonCount | (short code, utf parameter)*}. A record whose length or checksum does not
+ * match is a torn write from a crash and ends the file.
+ */
+@Slf4j
+class OrderStateWal implements Closeable {
+  private static final String FILE_PREFIX = "order-state-";
+  private static final String FILE_SUFFIX = ".wal";
+  private static final int RECORD_HEADER_BYTES = Integer.BYTES * 2;
+  private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+  private final Path directory;
+  private final int maxGroupCommitSize;
+  private final BlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+  private final Thread writer;
+  private final CRC32C crc = new CRC32C();
+  private ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+  private long generation;
+  private Path file;
+  private FileChannel channel;
+  private volatile long bytesInFile;
+  private volatile boolean closed;
+
+  OrderStateWal(Path directory, long generation, int maxGroupCommitSize) {
+    this.directory = directory;
+    this.maxGroupCommitSize = maxGroupCommitSize;
+    this.generation = generation;
+    try {
+      Files.createDirectories(directory);
+      openFile(generation);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open order state log in " + directory, e);
+    }
+    this.writer = new Thread(this::writeLoop, "order-state-wal");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * @return a future completed once the change is on stable storage.
+   */
+  CompletableFuture<Void> append(OrderStateChange change) {
+    if (closed) {
+      throw new IllegalStateException("Order state log is closed");
+    }
+    CompletableFuture<Void> durable = new CompletableFuture<>();
+    requests.add(new Append(change, durable));
+    return durable;
+  }
+
+  /**
+   * Starts a new log file. Every change appended before this call is in the returned file or an
+   * earlier one, every change appended after it lands in the new file.
+   */
+  Path rotate() {
+    CompletableFuture<Path> closed = new CompletableFuture<>();
+    requests.add(new Rotate(closed));
+    return awaitWriter(closed);
+  }
+
+  boolean isCurrentFileEmpty() {
+    return bytesInFile == 0;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    CompletableFuture<Path> lastFile = new CompletableFuture<>();
+    requests.add(new Close(lastFile));
+    awaitWriter(lastFile);
+  }
+
+  static List<Path> existingFiles(Path directory) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return List.of();
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(OrderStateWal::isLogFile)
+          .sorted()
+          .toList();
+    }
+  }
+
+  static long generationOf(Path file) {
+    String name = file.getFileName().toString();
+    return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+  }
+
+  static List<OrderStateChange> read(Path file) throws IOException {
+    ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+    List<OrderStateChange> changes = new ArrayList<>();
+    CRC32C checksum = new CRC32C();
+    while (content.remaining() >= RECORD_HEADER_BYTES) {
+      int length = content.getInt();
+      int expectedCrc = content.getInt();
+      if (length <= 0 || length > content.remaining()) {
+        log.warn("Ignoring torn record at the end of order state log {}", file);
+        break;
+      }
+      ByteBuffer payload = content.slice(content.position(), length);
+      checksum.reset();
+      checksum.update(payload.duplicate());
+      if ((int) checksum.getValue() != expectedCrc) {
+        log.warn("Ignoring corrupt record at the end of order state log {}", file);
+        break;
+      }
+      changes.add(decode(payload));
+      content.position(content.position() + length);
+    }
+    return changes;
+  }
+
+  private void writeLoop() {
+    List<Request> group = new ArrayList<>(maxGroupCommitSize);
+    List<CompletableFuture<Void>> waiting = new ArrayList<>(maxGroupCommitSize);
+    while (true) {
+      try {
+        group.add(requests.take());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      requests.drainTo(group, maxGroupCommitSize - 1);
+      try {
+        for (Request request : group) {
+          if (request instanceof Append append) {
+            encode(append.change());
+            waiting.add(append.durable());
+          } else if (request instanceof Rotate rotate) {
+            commit(waiting);
+            rotate.closed().complete(switchFile());
+          } else if (request instanceof Close close) {
+            commit(waiting);
+            channel.close();
+            close.closed().complete(file);
+            return;
+          }
+        }
+        commit(waiting);
+      } catch (IOException | RuntimeException e) {
+        log.error("Could not write order state log {}", file, e);
+        for (Request request : group) {
+          request.fail(e);
+        }
+        buffer.clear();
+        discardPartialWrite();
+      } finally {
+        group.clear();
+        waiting.clear();
+      }
+    }
+  }
+
+  private void commit(List<CompletableFuture<Void>> waiting) throws IOException {
+    if (waiting.isEmpty()) {
+      return;
+    }
+    buffer.flip();
+    int written = 0;
+    while (buffer.hasRemaining()) {
+      written += channel.write(buffer);
+    }
+    buffer.clear();
+    channel.force(false);
+    bytesInFile += written;
+    for (CompletableFuture<Void> durable : waiting) {
+      durable.complete(null);
+    }
+    waiting.clear();
+  }
+
+  /**
+   * Drops bytes of a failed group so later records are not hidden behind a torn one.
+   */
+  private void discardPartialWrite() {
+    try {
+      if (channel.isOpen()) {
+        channel.truncate(bytesInFile);
+      }
+    } catch (IOException e) {
+      log.error("Could not truncate order state log {}", file, e);
+    }
+  }
+
+  private void encode(OrderStateChange change) {
+    List<FailureReason> failureReasons = change.failureReasons();
+    byte[][] parameters = new byte[failureReasons.size()][];
+    int length = Long.BYTES * 3 + Byte.BYTES + Short.BYTES;
+    for (int i = 0; i < parameters.length; i++) {
+      String parameter = failureReasons.get(i).getParameter();
+      parameters[i] = parameter == null ? null : parameter.getBytes(StandardCharsets.UTF_8);
+      length += Short.BYTES + Integer.BYTES + (parameters[i] == null ? 0 : parameters[i].length);
+    }
+    ensureCapacity(RECORD_HEADER_BYTES + length);
+
+    int recordStart = buffer.position();
+    buffer.putInt(length).putInt(0);
+    int payloadStart = buffer.position();
+    UUID orderId = change.orderId();
+    buffer.putLong(change.sequence())
+        .putLong(orderId.getMostSignificantBits())
+        .putLong(orderId.getLeastSignificantBits())
+        .put((byte) change.orderStatus().ordinal())
+        .putShort((short) parameters.length);
+    for (int i = 0; i < parameters.length; i++) {
+      buffer.putShort(failureReasons.get(i).getCode().getCode());
+      buffer.putInt(parameters[i] == null ? -1 : parameters[i].length);
+      if (parameters[i] != null) {
+        buffer.put(parameters[i]);
+      }
+    }
+    crc.reset();
+    crc.update(buffer.slice(payloadStart, length));
+    buffer.putInt(recordStart + Integer.BYTES, (int) crc.getValue());
+  }
+
+  private static OrderStateChange decode(ByteBuffer payload) {
+    long sequence = payload.getLong();
+    UUID orderId = new UUID(payload.getLong(), payload.getLong());
+    OrderStatus orderStatus = STATUSES[payload.get()];
+    int reasonCount = payload.getShort();
+    List<FailureReason> failureReasons = new ArrayList<>(reasonCount);
+    for (int i = 0; i < reasonCount; i++) {
+      short code = payload.getShort();
+      int parameterLength = payload.getInt();
+      String parameter = null;
+      if (parameterLength >= 0) {
+        byte[] bytes = new byte[parameterLength];
+        payload.get(bytes);
+        parameter = new String(bytes, StandardCharsets.UTF_8);
+      }
+      failureReasons.add(FailureReason.of(code, parameter));
+    }
+    return new OrderStateChange(sequence, orderId, null, orderStatus, failureReasons);
+  }
+
+  private void ensureCapacity(int bytes) {
+    if (buffer.remaining() >= bytes) {
+      return;
+    }
+    ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+    buffer.flip();
+    larger.put(buffer);
+    buffer = larger;
+  }
+
+  /**
+   * Moves appends to the next generation. The next file is opened before the current one is
+   * closed, so a failure leaves the log appending to the current file and the rotation can be
+   * retried.
+   */
+  private Path switchFile() throws IOException {
+    Path previousFile = file;
+    FileChannel previousChannel = channel;
+    openFile(generation + 1);
+    generation++;
+    try {
+      previousChannel.close();
+    } catch (IOException e) {
+      // every change in it was forced by the last commit.
+      log.warn("Could not close order state log {}", previousFile, e);
+    }
+    return previousFile;
+  }
+
+  private void openFile(long fileGeneration) throws IOException {
+    Path next = directory.resolve(String.format("%s%020d%s", FILE_PREFIX, fileGeneration, FILE_SUFFIX));
+    FileChannel nextChannel = FileChannel.open(next, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    try {
+      forceDirectory();
+    } catch (IOException e) {
+      nextChannel.close();
+      Files.deleteIfExists(next);
+      throw e;
+    }
+    file = next;
+    channel = nextChannel;
+    bytesInFile = 0;
+  }
+
+  private void forceDirectory() throws IOException {
+    try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      directoryChannel.force(true);
+    }
+  }
+
+  private static boolean isLogFile(Path file) {
+    String name = file.getFileName().toString();
+    return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+  }
+
+  private static <T> T awaitWriter(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw new UncheckedIOException("Order state log is unavailable", ioException);
+      }
+      throw e;
+    }
+  }
+
+  private sealed interface Request permits Append, Rotate, Close {
+    void fail(Throwable cause);
+  }
+
+  private record Append(OrderStateChange change, CompletableFuture<Void> durable) implements Request {
+    @Override
+    public void fail(Throwable cause) {
+      durable.completeExceptionally(cause);
+    }
+  }
+
+  private record Rotate(CompletableFuture<Path> closed) implements Request {
+    @Override
+    public void fail(Throwable cause) {
+      closed.completeExceptionally(cause);
+    }
+  }
+
+  private record Close(CompletableFuture<Path> closed) implements Request {
+    @Override
+    public void fail(Throwable cause) {
+      closed.completeExceptionally(cause);
+    }
+  }
+}
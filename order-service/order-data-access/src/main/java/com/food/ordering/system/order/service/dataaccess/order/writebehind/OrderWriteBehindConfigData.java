@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.dataaccess.order.writebehind;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-service.write-behind")
+public class OrderWriteBehindConfigData {
+  private boolean enabled = false;
+  private String walDirectory = "order-wal";
+  private Duration flushInterval = Duration.ofSeconds(1);
+  private int maxGroupCommitSize = 1_024;
+}
@@ -0,0 +1,269 @@
+package com.food.ordering.system.order.service.dataaccess.order.writebehind;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.order.shard.ShardedOrderRepository;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Order repository that takes pay, approve and cancel transitions off the database write path.
+ * A transition is acknowledged once it is in the write-ahead log; the latest state per order is
+ * kept in memory and flushed to the order tables in periodic batches, so several transitions of
+ * one order inside a flush interval cost a single update. New orders are inserted directly.
+ * <p>
+ * A log file is deleted only after every change it holds, or a later change of the same order,
+ * has been committed to the database. On startup the remaining files are replayed before the
+ * service accepts transitions. Reads by tracking id see pending states; status scans used by
+ * the archiver see the database until the next flush.
+ */
+@Slf4j
+@Primary
+@Component
+public class WriteBehindOrderRepository implements OrderRepository, SmartLifecycle {
+  private final ShardedOrderRepository delegate;
+  private final OrderStateBatchWriter batchWriter;
+  private final OrderWriteBehindConfigData config;
+  private final ConcurrentMap<UUID, OrderStateChange> pending = new ConcurrentHashMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+  private final List<Path> flushedFiles = new ArrayList<>();
+  private OrderStateWal wal;
+  private ScheduledExecutorService flusher;
+  private volatile boolean running;
+
+  public WriteBehindOrderRepository(ShardedOrderRepository delegate,
+                                    OrderStateBatchWriter batchWriter,
+                                    OrderWriteBehindConfigData config) {
+    this.delegate = delegate;
+    this.batchWriter = batchWriter;
+    this.config = config;
+  }
+
+  @Override
+  public Order save(Order order) {
+    if (!running || order.getOrderStatus() == OrderStatus.PENDING) {
+      return delegate.save(order);
+    }
+    OrderStateChange change = new OrderStateChange(sequence.incrementAndGet(), order.getId().getValue(),
+        order.getrestaurantId().getValue(), order.getOrderStatus(), order.getFailureReasons() == null ? List.of() : List.copyOf(order.getFailureReasons()));
+    pending.merge(change.orderId(), change, OrderStateChange::latest);
+    try {
+      wal.append(change).join();
+    } catch (CompletionException e) {
+      pending.remove(change.orderId(), change);
+      throw new IllegalStateException("Could not log state change of order. OrderId: " + change.orderId(),
+          e.getCause());
+    }
+    return order;
+  }
+
+  @Override
+  public Optional<Order> findByTrackingId(TrackingId trackingId) {
+    return delegate.findByTrackingId(trackingId).map(this::withPendingState);
+  }
+
+  @Override
+  public List<Order> findByTrackingIdIn(Collection<TrackingId> trackingIds) {
+    List<Order> orders = delegate.findByTrackingIdIn(trackingIds);
+    if (pending.isEmpty()) {
+      return orders;
+    }
+    List<Order> result = new ArrayList<>(orders.size());
+    for (Order order : orders) {
+      result.add(withPendingState(order));
+    }
+    return result;
+  }
+
+  @Override
+  public List<Order> findByOrderStatusIn(Collection<OrderStatus> orderStatuses, int limit) {
+    return delegate.findByOrderStatusIn(orderStatuses, limit);
+  }
+
+  @Override
+  public void deleteAllById(Collection<OrderId> orderIds) {
+    delegate.deleteAllById(orderIds);
+  }
+
+  @Override
+  public void forEachTrackingIdInStatus(Collection<OrderStatus> orderStatuses,
+                                        BiConsumer<TrackingId, OrderStatus> consumer) {
+    delegate.forEachTrackingIdInStatus(orderStatuses, consumer);
+  }
+
+  /**
+   * Counts what the order tables hold; states still pending in the log are not included.
+   */
+  @Override
+  public Map<RestaurantId, Map<OrderStatus, Long>> countByRestaurantIdAndOrderStatus() {
+    return delegate.countByRestaurantIdAndOrderStatus();
+  }
+
+  /**
+   * Writes every pending state to the order tables and drops the log files that are fully
+   * covered by the database afterwards.
+   */
+  public synchronized void flush() {
+    if (wal == null || pending.isEmpty() && wal.isCurrentFileEmpty()) {
+      return;
+    }
+    flushedFiles.add(wal.rotate());
+    List<OrderStateChange> snapshot = new ArrayList<>(pending.values());
+    batchWriter.write(snapshot);
+    for (OrderStateChange change : snapshot) {
+      pending.remove(change.orderId(), change);
+    }
+    for (Path file : flushedFiles) {
+      deleteQuietly(file);
+    }
+    flushedFiles.clear();
+    if (!snapshot.isEmpty()) {
+      log.debug("Flushed {} order states", snapshot.size());
+    }
+  }
+
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  @Override
+  public void start() {
+    if (!config.isEnabled()) {
+      return;
+    }
+    Path directory = Paths.get(config.getWalDirectory());
+    long nextGeneration = recover(directory);
+    wal = new OrderStateWal(directory, nextGeneration, config.getMaxGroupCommitSize());
+    flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "order-state-flusher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long intervalMillis = config.getFlushInterval().toMillis();
+    flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    running = true;
+    log.info("Write-behind order state persistence started. Log directory: {}", directory.toAbsolutePath());
+  }
+
+  @Override
+  public void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    flusher.shutdown();
+    try {
+      flusher.awaitTermination(config.getFlushInterval().toMillis() * 2, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+    wal.close();
+  }
+
+  /**
+   * Starts after shard rebalancing and before order expiry and the statistics seeder, so logged
+   * states are recovered before they read orders, and stops after them so their last writes are flushed.
+   */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Replays log files left by a previous run into the order tables.
+   *
+   * @return the generation to use for the next log file.
+   */
+  private long recover(Path directory) {
+    try {
+      List<Path> files = OrderStateWal.existingFiles(directory);
+      if (files.isEmpty()) {
+        return 0;
+      }
+      Map<UUID, OrderStateChange> latest = new HashMap<>();
+      long maxSequence = 0;
+      for (Path file : files) {
+        for (OrderStateChange change : OrderStateWal.read(file)) {
+          latest.merge(change.orderId(), change, OrderStateChange::latest);
+          maxSequence = Math.max(maxSequence, change.sequence());
+        }
+      }
+      batchWriter.write(new ArrayList<>(latest.values()));
+      for (Path file : files) {
+        Files.delete(file);
+      }
+      sequence.set(maxSequence);
+      log.info("Recovered {} order states from {} order state log files", latest.size(), files.size());
+      return OrderStateWal.generationOf(files.get(files.size() - 1)) + 1;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not recover order state log from " + directory, e);
+    }
+  }
+
+  private void flushSafely() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.error("Could not flush pending order states, {} will be retried", pending.size(), e);
+    }
+  }
+
+  private Order withPendingState(Order order) {
+    OrderStateChange change = pending.get(order.getId().getValue());
+    if (change == null) {
+      return order;
+    }
+    return Order.Builder.builder()
+        .orderId(order.getId())
+        .customerId(order.getCustomerId())
+        .restaurantId(order.getrestaurantId())
+        .trackingId(order.getTrackingId())
+        .price(order.getPrice())
+        .orderStatus(change.orderStatus())
+        .deliveryAddress(order.getDeliveryAddress())
+        .items(order.getItems())
+        .failureReasons(new ArrayList<>(change.failureReasons()))
+        .build();
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Could not delete flushed order state log {}", file, e);
+    }
+  }
+}
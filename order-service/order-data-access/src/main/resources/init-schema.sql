@@ -0,0 +1,54 @@
+CREATE TABLE IF NOT EXISTS customers
+(
+    id UUID NOT NULL,
+    CONSTRAINT customers_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS delivery_addresses
+(
+    id          UUID        NOT NULL,
+    street      VARCHAR(50) NOT NULL,
+    postal_code VARCHAR(10) NOT NULL,
+    city        VARCHAR(50) NOT NULL,
+    CONSTRAINT delivery_addresses_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS orders
+(
+    id                  UUID           NOT NULL,
+    customer_id         UUID           NOT NULL,
+    restaurant_id       UUID           NOT NULL,
+    tracking_id         UUID           NOT NULL,
+    price               NUMERIC(10, 2) NOT NULL,
+    order_status        VARCHAR(16)    NOT NULL,
+    delivery_address_id UUID           NOT NULL,
+    CONSTRAINT orders_pkey PRIMARY KEY (id),
+    CONSTRAINT orders_tracking_id_key UNIQUE (tracking_id),
+    CONSTRAINT orders_delivery_address_id_fkey FOREIGN KEY (delivery_address_id) REFERENCES delivery_addresses (id)
+);
+
+CREATE INDEX IF NOT EXISTS orders_order_status_idx ON orders (order_status);
+
+CREATE INDEX IF NOT EXISTS orders_restaurant_id_idx ON orders (restaurant_id);
+
+CREATE TABLE IF NOT EXISTS order_items
+(
+    id         BIGINT         NOT NULL,
+    order_id   UUID           NOT NULL,
+    product_id UUID           NOT NULL,
+    price      NUMERIC(10, 2) NOT NULL,
+    quantity   INTEGER        NOT NULL,
+    sub_total  NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT order_items_pkey PRIMARY KEY (id, order_id),
+    CONSTRAINT order_items_order_id_fkey FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS order_failure_reasons
+(
+    order_id  UUID         NOT NULL,
+    seq       SMALLINT     NOT NULL,
+    code      SMALLINT     NOT NULL,
+    parameter VARCHAR(255),
+    CONSTRAINT order_failure_reasons_pkey PRIMARY KEY (order_id, seq),
+    CONSTRAINT order_failure_reasons_order_id_fkey FOREIGN KEY (order_id) REFERENCES orders (id) ON DELETE CASCADE
+);
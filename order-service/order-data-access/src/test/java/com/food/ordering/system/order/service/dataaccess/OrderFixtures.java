@@ -0,0 +1,90 @@
+package com.food.ordering.system.order.service.dataaccess;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public final class OrderFixtures {
+  private static final int PRODUCTS_PER_RESTAURANT = 10;
+
+  private OrderFixtures() {
+  }
+
+  /**
+   * An embedded database with the order schema, named uniquely so tests never share one.
+   */
+  public static DriverManagerDataSource database(String name) {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(databaseUrl(name));
+    new ResourceDatabasePopulator(new ClassPathResource("init-schema.sql")).execute(dataSource);
+    return dataSource;
+  }
+
+  public static String databaseUrl(String name) {
+    return "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+  }
+
+  public static List<Restaurant> restaurants(int count, SplittableRandom random) {
+    List<Restaurant> restaurants = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      List<Product> products = new ArrayList<>(PRODUCTS_PER_RESTAURANT);
+      for (int j = 0; j < PRODUCTS_PER_RESTAURANT; j++) {
+        products.add(new Product(new ProductId(uuid(random)), "product-" + i + "-" + j,
+            new Money(BigDecimal.valueOf(random.nextLong(100, 10_000), 2))));
+      }
+      restaurants.add(Restaurant.Builder.builder()
+          .restaurantId(new RestaurantId(uuid(random)))
+          .products(List.copyOf(products))
+          .active(true)
+          .build());
+    }
+    return restaurants;
+  }
+
+  /**
+   * A new order as the application layer hands it over, with products carrying their ids only.
+   */
+  public static Order order(Restaurant restaurant, SplittableRandom random) {
+    List<Product> menu = restaurant.getProducts();
+    int itemCount = random.nextInt(1, 4);
+    List<OrderItem> items = new ArrayList<>(itemCount);
+    Money total = Money.ZERO;
+    for (int i = 0; i < itemCount; i++) {
+      Product product = menu.get(random.nextInt(menu.size()));
+      int quantity = random.nextInt(1, 4);
+      Money subTotal = product.getPrice().multiply(quantity);
+      items.add(OrderItem.Builder.builder()
+          .product(new Product(product.getId(), null, null))
+          .quantity(quantity)
+          .price(product.getPrice())
+          .subTotal(subTotal)
+          .build());
+      total = total.add(subTotal);
+    }
+    return Order.Builder.builder()
+        .customerId(new CustomerId(uuid(random)))
+        .restaurantId(restaurant.getId())
+        .deliveryAddress(new StreetAddress(uuid(random), "street", "1000AB", "city"))
+        .price(total)
+        .items(items)
+        .build();
+  }
+
+  private static UUID uuid(SplittableRandom random) {
+    return new UUID(random.nextLong(), random.nextLong());
+  }
+}
@@ -0,0 +1,102 @@
+package com.food.ordering.system.order.service.dataaccess.address;
+
+import com.food.ordering.system.order.service.dataaccess.OrderFixtures;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeliveryAddressStoreTest {
+  private NamedParameterJdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private DeliveryAddressStore store;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = OrderFixtures.database("addresses");
+    jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    store = new DeliveryAddressStore(jdbcTemplate, 100);
+  }
+
+  @Test
+  void writingsOfTheSameAddressShareOneRow() {
+    UUID id = store.intern(address("Main Street 12", "1000AB", "Amsterdam"));
+
+    assertThat(store.intern(address("  main   STREET 12", "1000 ab", "AMSTERDAM "))).isEqualTo(id);
+    assertThat(store.intern(address("Main\tStreet\n12", " 1000ab", "amsterdam"))).isEqualTo(id);
+    assertThat(store.intern(address("Main Street 14", "1000AB", "Amsterdam"))).isNotEqualTo(id);
+    assertThat(rowCount()).isEqualTo(2);
+    assertThat(row(id)).containsEntry("STREET", "Main Street 12")
+        .containsEntry("POSTAL_CODE", "1000AB")
+        .containsEntry("CITY", "Amsterdam");
+  }
+
+  @Test
+  void insertOfAnAddressStoredElsewhereIsIgnored() {
+    DeliveryAddressStore otherInstance = new DeliveryAddressStore(jdbcTemplate, 100);
+    UUID id = otherInstance.intern(address("Main Street 12", "1000AB", "Amsterdam"));
+
+    assertThat(store.intern(address("main street 12", "1000 AB", "amsterdam"))).isEqualTo(id);
+    assertThat(rowCount()).isEqualTo(1);
+    assertThat(row(id)).containsEntry("STREET", "Main Street 12");
+  }
+
+  @Test
+  void cachedAddressResolvesWithoutTheDatabase() {
+    StreetAddress address = address("Main Street 12", "1000AB", "Amsterdam");
+    UUID id = store.intern(address);
+    jdbcTemplate.update("DELETE FROM delivery_addresses", Map.of());
+
+    assertThat(store.intern(address("Main Street 12", "1000AB", "Amsterdam"))).isEqualTo(id);
+    assertThat(rowCount()).isZero();
+  }
+
+  @Test
+  void committedInsertIsCached() {
+    UUID id = transactionTemplate.execute(status -> store.intern(address("Main Street 12", "1000AB", "Amsterdam")));
+
+    assertThat(store.getCachedCount()).isEqualTo(1);
+    assertThat(row(id)).containsEntry("STREET", "Main Street 12");
+  }
+
+  @Test
+  void rolledBackInsertIsNotCached() {
+    StreetAddress address = address("Main Street 12", "1000AB", "Amsterdam");
+    transactionTemplate.executeWithoutResult(status -> {
+      store.intern(address);
+      assertThat(store.getCachedCount()).isZero();
+      status.setRollbackOnly();
+    });
+
+    assertThat(store.getCachedCount()).isZero();
+    assertThat(rowCount()).isZero();
+
+    UUID id = store.intern(address);
+
+    assertThat(rowCount()).isEqualTo(1);
+    assertThat(row(id)).containsEntry("CITY", "Amsterdam");
+  }
+
+  private static StreetAddress address(String street, String postalCode, String city) {
+    return new StreetAddress(UUID.randomUUID(), street, postalCode, city);
+  }
+
+  private int rowCount() {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM delivery_addresses", Map.of(), Integer.class);
+  }
+
+  private Map<String, Object> row(UUID id) {
+    return jdbcTemplate.queryForMap("SELECT street, postal_code, city FROM delivery_addresses WHERE id = :id",
+        new MapSqlParameterSource("id", id));
+  }
+}
@@ -0,0 +1,81 @@
+package com.food.ordering.system.order.service.dataaccess.archive;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.OrderFixtures;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderArchiveRepositoryImplTest {
+  private static final List<FailureReason> REJECTION = List.of(FailureReason.of(FailureCode.RESTAURANT_REJECTED));
+
+  @TempDir
+  Path directory;
+
+  private final SplittableRandom random = new SplittableRandom(5);
+  private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+
+  /**
+   * A crash between writing a segment and deleting its rows archives the orders again later, so
+   * an order can sit in two segments; the copy in the newer one is returned.
+   */
+  @Test
+  void newestSegmentWinsBeforeAndAfterReopening() {
+    Restaurant restaurant = OrderFixtures.restaurants(1, random).get(0);
+    Order order = OrderFixtures.order(restaurant, random);
+    orderDomainService.validateAndInitiateOrder(order, restaurant);
+    Order other = OrderFixtures.order(restaurant, random);
+    orderDomainService.validateAndInitiateOrder(other, restaurant);
+    orderDomainService.cancelOrder(other, REJECTION);
+    OrderArchiveRepositoryImpl archive = new OrderArchiveRepositoryImpl(config());
+    archive.archive(List.of(order, other));
+    orderDomainService.cancelOrder(order, REJECTION);
+    archive.archive(List.of(order));
+
+    for (OrderArchiveRepositoryImpl repository : List.of(archive, new OrderArchiveRepositoryImpl(config()))) {
+      assertThat(repository.findByTrackingId(order.getTrackingId()))
+          .hasValueSatisfying(found -> assertThat(found.getOrderStatus()).isEqualTo(OrderStatus.CANCELLED));
+      assertThat(repository.findByTrackingIdIn(List.of(order.getTrackingId(), other.getTrackingId())))
+          .extracting(Order::getOrderStatus).containsExactlyInAnyOrder(OrderStatus.CANCELLED, OrderStatus.CANCELLED);
+    }
+  }
+
+  @Test
+  void dropsUnfinishedSegmentAndContinuesTheSequenceOnReopen() throws IOException {
+    Restaurant restaurant = OrderFixtures.restaurants(1, random).get(0);
+    Order order = OrderFixtures.order(restaurant, random);
+    orderDomainService.validateAndInitiateOrder(order, restaurant);
+    new OrderArchiveRepositoryImpl(config()).archive(List.of(order));
+    Files.writeString(directory.resolve("orders-00000000000000000002.seg.tmp"), "partial");
+
+    OrderArchiveRepositoryImpl reopened = new OrderArchiveRepositoryImpl(config());
+    reopened.archive(List.of(order));
+
+    try (Stream<Path> files = Files.list(directory)) {
+      assertThat(files.map(file -> file.getFileName().toString()))
+          .containsExactlyInAnyOrder("orders-00000000000000000001.seg", "orders-00000000000000000002.seg");
+    }
+    assertThat(reopened.findByTrackingId(order.getTrackingId())).isPresent();
+  }
+
+  private OrderArchiveConfigData config() {
+    OrderArchiveConfigData config = new OrderArchiveConfigData();
+    config.setDirectory(directory.toString());
+    config.setRowsPerBlock(4);
+    return config;
+  }
+}
@@ -0,0 +1,207 @@
+package com.food.ordering.system.order.service.dataaccess.archive;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.order.service.dataaccess.OrderFixtures;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderSegmentTest {
+  private static final List<FailureReason> REJECTION =
+      List.of(FailureReason.of(FailureCode.RESTAURANT_REJECTED, "restaurant-7"));
+  private static final List<FailureReason> TIMEOUT_AND_REFUND = List.of(
+      FailureReason.of(FailureCode.RESTAURANT_APPROVAL_TIMEOUT), FailureReason.of(FailureCode.PAYMENT_NOT_FOUND, "refund"));
+
+  @TempDir
+  Path directory;
+
+  private final SplittableRandom random = new SplittableRandom(11);
+  private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+
+  @Test
+  void readsBackEveryColumnOfEveryOrder() throws IOException {
+    List<Order> orders = orders(300);
+    OrderSegmentReader reader = write(1_024, orders);
+
+    assertThat(reader.getOrderCount()).isEqualTo(orders.size());
+    for (Order order : orders) {
+      assertSameOrder(reader.findByTrackingId(order.getTrackingId().getValue()).orElseThrow(), order);
+    }
+  }
+
+  @Test
+  void findsOrdersWhoseRowsAndItemsSpanSeveralBlocks() throws IOException {
+    List<Order> orders = orders(500);
+    OrderSegmentReader reader = write(7, orders);
+    List<Order> requested = new ArrayList<>(orders.subList(0, 250));
+    Collections.shuffle(requested, new Random(3));
+
+    List<Order> found = reader.findByTrackingIds(requested.stream().map(order -> order.getTrackingId().getValue()).toList());
+
+    assertThat(found).hasSize(requested.size());
+    for (Order order : found) {
+      assertSameOrder(order, orders.stream()
+          .filter(expected -> expected.getTrackingId().equals(order.getTrackingId())).findFirst().orElseThrow());
+    }
+    assertSameOrder(reader.findByTrackingId(orders.get(499).getTrackingId().getValue()).orElseThrow(), orders.get(499));
+  }
+
+  @Test
+  void missingTrackingIdIsNotFound() throws IOException {
+    List<Order> orders = orders(50);
+    OrderSegmentReader reader = write(8, orders);
+
+    assertThat(reader.findByTrackingId(UUID.randomUUID())).isEmpty();
+    assertThat(reader.findByTrackingIds(List.of(UUID.randomUUID(), orders.get(3).getTrackingId().getValue())))
+        .extracting(Order::getTrackingId).containsExactly(orders.get(3).getTrackingId());
+  }
+
+  @Test
+  void batchLookupReturnsEachFoundOrderOnceInFileOrder() throws IOException {
+    List<Order> orders = orders(100);
+    OrderSegmentReader reader = write(8, orders);
+    UUID first = orders.get(10).getTrackingId().getValue();
+    UUID second = orders.get(60).getTrackingId().getValue();
+
+    List<Order> found = reader.findByTrackingIds(List.of(second, UUID.randomUUID(), first, second, first));
+
+    assertThat(found).extracting(order -> order.getTrackingId().getValue()).containsExactly(first, second);
+  }
+
+  @Test
+  void truncatedSegmentDoesNotOpen() throws IOException {
+    Path file = directory.resolve("truncated.seg");
+    new OrderSegmentWriter(8).write(file, orders(50));
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 1);
+    }
+
+    assertThatThrownBy(() -> OrderSegmentReader.open(file))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Truncated");
+  }
+
+  @Test
+  void segmentWithDamagedIndexDoesNotOpen() throws IOException {
+    Path file = directory.resolve("index.seg");
+    List<Order> orders = orders(50);
+    new OrderSegmentWriter(8).write(file, orders);
+    // the index ends where the blocks start, so this is the low byte of the row of its last entry
+    flipByte(file, firstBlockOffset(file) - 1);
+
+    assertThatThrownBy(() -> OrderSegmentReader.open(file))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Corrupt");
+  }
+
+  @Test
+  void damagedBlockFailsTheLookupInsteadOfReturningWrongData() throws IOException {
+    Path file = directory.resolve("block.seg");
+    List<Order> orders = orders(50);
+    new OrderSegmentWriter(8).write(file, orders);
+    flipByte(file, firstBlockOffset(file) + 3);
+    OrderSegmentReader reader = OrderSegmentReader.open(file);
+
+    assertThatThrownBy(() -> reader.findByTrackingIds(orders.stream().map(order -> order.getTrackingId().getValue()).toList()))
+        .isInstanceOf(UncheckedIOException.class)
+        .hasRootCauseMessage("Checksum mismatch");
+  }
+
+  private OrderSegmentReader write(int rowsPerBlock, List<Order> orders) throws IOException {
+    Path file = directory.resolve("orders-" + rowsPerBlock + ".seg");
+    new OrderSegmentWriter(rowsPerBlock).write(file, orders);
+    return OrderSegmentReader.open(file);
+  }
+
+  /**
+   * Terminal orders as the archiver reads them, approved or cancelled with and without failure
+   * reasons, one reason having no parameter.
+   */
+  private List<Order> orders(int count) {
+    List<Restaurant> restaurants = OrderFixtures.restaurants(5, random);
+    List<Order> orders = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Restaurant restaurant = restaurants.get(random.nextInt(restaurants.size()));
+      Order order = OrderFixtures.order(restaurant, random);
+      orderDomainService.validateAndInitiateOrder(order, restaurant);
+      switch (i % 4) {
+        case 0 -> {
+          orderDomainService.payOrder(order);
+          orderDomainService.approveOrder(order);
+        }
+        case 1 -> orderDomainService.cancelOrder(order, REJECTION);
+        case 2 -> {
+          orderDomainService.payOrder(order);
+          orderDomainService.cancelOrderPayment(order, TIMEOUT_AND_REFUND);
+          orderDomainService.cancelOrder(order, null);
+        }
+        default -> orderDomainService.cancelOrder(order, null);
+      }
+      orders.add(order);
+    }
+    return orders;
+  }
+
+  private static int firstBlockOffset(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      ByteBuffer directory = ByteBuffer.allocate(OrderSegmentWriter.HEADER_BYTES + Integer.BYTES + Long.BYTES);
+      channel.read(directory, 0);
+      return (int) directory.getLong(OrderSegmentWriter.HEADER_BYTES + Integer.BYTES);
+    }
+  }
+
+  private static void flipByte(Path file, int position) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer value = ByteBuffer.allocate(1);
+      channel.read(value, position);
+      value.put(0, (byte) (value.get(0) ^ 0x5A)).rewind();
+      channel.write(value, position);
+    }
+  }
+
+  private static void assertSameOrder(Order actual, Order expected) {
+    assertThat(actual.getId()).isEqualTo(expected.getId());
+    assertThat(actual.getTrackingId()).isEqualTo(expected.getTrackingId());
+    assertThat(actual.getCustomerId()).isEqualTo(expected.getCustomerId());
+    assertThat(actual.getrestaurantId()).isEqualTo(expected.getrestaurantId());
+    assertThat(actual.getPrice().getAmount()).isEqualTo(expected.getPrice().getAmount());
+    assertThat(actual.getOrderStatus()).isEqualTo(expected.getOrderStatus());
+    assertThat(actual.getDeliveryAddress().getId()).isEqualTo(expected.getDeliveryAddress().getId());
+    assertThat(actual.getDeliveryAddress().getStreet()).isEqualTo(expected.getDeliveryAddress().getStreet());
+    assertThat(actual.getDeliveryAddress().getPostalCode()).isEqualTo(expected.getDeliveryAddress().getPostalCode());
+    assertThat(actual.getDeliveryAddress().getCity()).isEqualTo(expected.getDeliveryAddress().getCity());
+    assertThat(actual.getFailureReasons()).isEqualTo(expected.getFailureReasons());
+    assertThat(actual.getItems()).hasSameSizeAs(expected.getItems());
+    for (int i = 0; i < expected.getItems().size(); i++) {
+      OrderItem actualItem = actual.getItems().get(i);
+      OrderItem expectedItem = expected.getItems().get(i);
+      assertThat(actualItem.getId()).isEqualTo(expectedItem.getId());
+      assertThat(actualItem.getOrderId()).isEqualTo(expected.getId());
+      assertThat(actualItem.getProduct().getId()).isEqualTo(expectedItem.getProduct().getId());
+      assertThat(actualItem.getQuantity()).isEqualTo(expectedItem.getQuantity());
+      assertThat(actualItem.getPrice().getAmount()).isEqualTo(expectedItem.getPrice().getAmount());
+      assertThat(actualItem.getSubTotal().getAmount()).isEqualTo(expectedItem.getSubTotal().getAmount());
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package com.food.ordering.system.order.service.dataaccess.order.shard;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.OrderFixtures;
+import com.food.ordering.system.order.service.dataaccess.address.DeliveryAddressStore;
+import com.food.ordering.system.order.service.dataaccess.order.adapter.OrderRepositoryImpl;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing and rebalancing of restaurant-sharded order tables over several embedded databases.
+ */
+class ShardedOrderRepositoryTest {
+  private static final int ORDER_COUNT = 2_000;
+  private static final int RESTAURANT_COUNT = 60;
+  private static final List<FailureReason> REJECTION = List.of(FailureReason.of(FailureCode.RESTAURANT_REJECTED));
+
+  private final List<String> shardUrls = new ArrayList<>();
+  private final List<OrderShards> opened = new ArrayList<>();
+  private OrderRepositoryImpl primaryRepository;
+  private NamedParameterJdbcTemplate primaryJdbcTemplate;
+  private TransactionTemplate primaryTransactions;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource primary = OrderFixtures.database("shard-primary");
+    primaryJdbcTemplate = new NamedParameterJdbcTemplate(primary);
+    primaryTransactions = new TransactionTemplate(new DataSourceTransactionManager(primary));
+    primaryRepository = new OrderRepositoryImpl(primaryJdbcTemplate,
+        new DeliveryAddressStore(primaryJdbcTemplate, 1_000), primaryTransactions);
+    for (int i = 0; i < 3; i++) {
+      shardUrls.add(OrderFixtures.databaseUrl("shard-" + i));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    opened.forEach(OrderShards::destroy);
+  }
+
+  @Test
+  void storesEveryOrderOnTheShardItsRestaurantHashesTo() {
+    OrderShardingConfigData config = shardingConfig(3);
+    OrderShards shards = open(config);
+    Map<TrackingId, Order> expected = storeOrders(new ShardedOrderRepository(shards, config));
+
+    assertPlacement(shards, expected);
+    assertThat(ordersPerShard(shards)).allSatisfy(count -> assertThat(count).isPositive());
+  }
+
+  @Test
+  void findsOrdersByTrackingIdWithColdAndWarmLocationCache() {
+    OrderShardingConfigData config = shardingConfig(3);
+    OrderShards shards = open(config);
+    Map<TrackingId, Order> expected = storeOrders(new ShardedOrderRepository(shards, config));
+    ShardedOrderRepository coldRepository = new ShardedOrderRepository(shards, config);
+
+    for (int pass = 0; pass < 2; pass++) {
+      for (Map.Entry<TrackingId, Order> entry : expected.entrySet()) {
+        assertThat(coldRepository.findByTrackingId(entry.getKey()))
+            .hasValueSatisfying(order -> assertThat(order.getId()).isEqualTo(entry.getValue().getId()));
+      }
+    }
+    assertThat(coldRepository.findByTrackingIdIn(expected.keySet())).hasSize(expected.size());
+  }
+
+  @Test
+  void countsOrdersByRestaurantAndStatusOverEveryShard() {
+    OrderShardingConfigData config = shardingConfig(3);
+    OrderShards shards = open(config);
+    Map<TrackingId, Order> expected = storeOrders(new ShardedOrderRepository(shards, config));
+    Map<RestaurantId, Map<OrderStatus, Long>> want = new HashMap<>();
+    for (Order order : expected.values()) {
+      want.computeIfAbsent(order.getrestaurantId(), id -> new EnumMap<>(OrderStatus.class))
+          .merge(order.getOrderStatus(), 1L, Long::sum);
+    }
+
+    assertThat(new ShardedOrderRepository(shards, config).countByRestaurantIdAndOrderStatus()).isEqualTo(want);
+  }
+
+  @Test
+  void rebalancingOntoAnAddedShardMovesOnlyTheRestaurantsThatHashToIt() {
+    OrderShardingConfigData twoShards = shardingConfig(2);
+    OrderShards before = open(twoShards);
+    Map<TrackingId, Order> expected = storeOrders(new ShardedOrderRepository(before, twoShards));
+    Map<TrackingId, String> shardBefore = shardNames(before, expected);
+    before.destroy();
+    opened.remove(before);
+
+    OrderShardingConfigData threeShards = shardingConfig(3);
+    OrderShards after = open(threeShards);
+    ShardedOrderRepository repository = new ShardedOrderRepository(after, threeShards);
+    OrderShardRebalancer.RebalanceSummary summary = new OrderShardRebalancer(after, repository, threeShards).rebalance();
+
+    assertThat(summary.orders()).isPositive();
+    assertPlacement(after, expected);
+    Map<TrackingId, String> shardAfter = shardNames(after, expected);
+    long moved = 0;
+    for (TrackingId trackingId : expected.keySet()) {
+      if (!shardAfter.get(trackingId).equals(shardBefore.get(trackingId))) {
+        assertThat(shardAfter.get(trackingId)).isEqualTo("shard-2");
+        moved++;
+      }
+    }
+    assertThat(moved).isEqualTo(summary.orders());
+    assertThat(repository.findByTrackingIdIn(expected.keySet())).hasSize(expected.size());
+  }
+
+  private OrderShards open(OrderShardingConfigData config) {
+    OrderShards shards = new OrderShards(config, primaryRepository, primaryJdbcTemplate, primaryTransactions, 1_000);
+    opened.add(shards);
+    return shards;
+  }
+
+  private OrderShardingConfigData shardingConfig(int shardCount) {
+    OrderShardingConfigData config = new OrderShardingConfigData();
+    config.setEnabled(true);
+    for (int i = 0; i < shardCount; i++) {
+      OrderShardingConfigData.Shard shard = new OrderShardingConfigData.Shard();
+      shard.setName("shard-" + i);
+      shard.setUrl(shardUrls.get(i));
+      config.getShards().add(shard);
+    }
+    return config;
+  }
+
+  private static Map<TrackingId, Order> storeOrders(ShardedOrderRepository repository) {
+    SplittableRandom random = new SplittableRandom(42);
+    List<Restaurant> restaurants = OrderFixtures.restaurants(RESTAURANT_COUNT, random);
+    OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+    Map<TrackingId, Order> orders = new HashMap<>();
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      Restaurant restaurant = restaurants.get(random.nextInt(restaurants.size()));
+      Order order = OrderFixtures.order(restaurant, random);
+      orderDomainService.validateAndInitiateOrder(order, restaurant);
+      if (i % 3 == 1) {
+        orderDomainService.payOrder(order);
+      } else if (i % 3 == 2) {
+        orderDomainService.payOrder(order);
+        orderDomainService.cancelOrderPayment(order, REJECTION);
+      }
+      repository.save(order);
+      orders.put(order.getTrackingId(), order);
+    }
+    return orders;
+  }
+
+  /**
+   * Every order is stored exactly once, on the shard its restaurant hashes to, with its state intact.
+   */
+  private static void assertPlacement(OrderShards shards, Map<TrackingId, Order> expected) {
+    Map<TrackingId, Integer> copies = new HashMap<>();
+    for (OrderShard shard : shards.getShards()) {
+      for (Order stored : shard.getRepository().findByTrackingIdIn(expected.keySet())) {
+        Order want = expected.get(stored.getTrackingId());
+        copies.merge(stored.getTrackingId(), 1, Integer::sum);
+        assertThat(shards.shardFor(stored.getrestaurantId().getValue())).isSameAs(shard);
+        assertThat(stored.getOrderStatus()).isEqualTo(want.getOrderStatus());
+        assertThat(stored.getItems()).extracting(item -> item.getSubTotal().getAmount())
+            .containsExactlyElementsOf(want.getItems().stream().map(item -> item.getSubTotal().getAmount()).toList());
+        assertThat(stored.getFailureReasons() == null ? List.of() : stored.getFailureReasons())
+            .isEqualTo(want.getFailureReasons() == null ? List.of() : want.getFailureReasons());
+      }
+    }
+    assertThat(copies).hasSize(expected.size());
+    assertThat(copies.values()).containsOnly(1);
+  }
+
+  private static Map<TrackingId, String> shardNames(OrderShards shards, Map<TrackingId, Order> orders) {
+    Map<TrackingId, String> names = new HashMap<>();
+    for (OrderShard shard : shards.getShards()) {
+      for (Order stored : shard.getRepository().findByTrackingIdIn(orders.keySet())) {
+        names.put(stored.getTrackingId(), shard.getName());
+      }
+    }
+    return names;
+  }
+
+  private static List<Integer> ordersPerShard(OrderShards shards) {
+    return shards.onEachShard(shard -> shard.getJdbcTemplate()
+        .queryForObject("SELECT COUNT(*) FROM orders", Map.of(), Integer.class));
+  }
+}
@@ -0,0 +1,96 @@
+package com.food.ordering.system.order.service.dataaccess.order.writebehind;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStateWalTest {
+  private static final List<FailureReason> REFUND = List.of(FailureReason.of(FailureCode.PAYMENT_NOT_FOUND, "refund"));
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void readReturnsAppendedChangesInOrder() throws IOException {
+    List<OrderStateChange> changes = changes(3);
+    Path file = writeAndClose(changes);
+
+    assertThat(OrderStateWal.read(file)).containsExactlyElementsOf(changes);
+  }
+
+  @Test
+  void readStopsAtTornLastRecord() throws IOException {
+    List<OrderStateChange> changes = changes(3);
+    Path file = writeAndClose(changes);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(channel.size() - 5);
+    }
+
+    assertThat(OrderStateWal.read(file)).containsExactlyElementsOf(changes.subList(0, 2));
+  }
+
+  @Test
+  void readStopsAtLastRecordWithBadChecksum() throws IOException {
+    List<OrderStateChange> changes = changes(3);
+    Path file = writeAndClose(changes);
+    byte[] content = Files.readAllBytes(file);
+    content[content.length - 1] ^= 0x5a;
+    Files.write(file, content);
+
+    assertThat(OrderStateWal.read(file)).containsExactlyElementsOf(changes.subList(0, 2));
+  }
+
+  @Test
+  void failedRotationLeavesLogAppendingToCurrentFile() throws IOException {
+    List<OrderStateChange> changes = changes(2);
+    OrderStateWal wal = new OrderStateWal(directory, 0, 16);
+    try {
+      wal.append(changes.get(0)).join();
+      Path blocker = Files.createFile(directory.resolve("order-state-00000000000000000001.wal"));
+
+      assertThatThrownBy(wal::rotate).isInstanceOf(UncheckedIOException.class);
+
+      wal.append(changes.get(1)).join();
+      Files.delete(blocker);
+      Path rotated = wal.rotate();
+
+      assertThat(OrderStateWal.generationOf(rotated)).isZero();
+      assertThat(OrderStateWal.read(rotated)).containsExactlyElementsOf(changes);
+      assertThat(wal.isCurrentFileEmpty()).isTrue();
+    } finally {
+      wal.close();
+    }
+  }
+
+  private Path writeAndClose(List<OrderStateChange> changes) {
+    OrderStateWal wal = new OrderStateWal(directory, 0, 16);
+    for (OrderStateChange change : changes) {
+      wal.append(change).join();
+    }
+    wal.close();
+    return directory.resolve("order-state-00000000000000000000.wal");
+  }
+
+  private static List<OrderStateChange> changes(int count) {
+    OrderStatus[] statuses = {OrderStatus.PAID, OrderStatus.APPROVED, OrderStatus.CANCELLED};
+    return IntStream.range(0, count)
+        .mapToObj(i -> new OrderStateChange(i + 1, UUID.randomUUID(), null, statuses[i % statuses.length],
+            statuses[i % statuses.length] == OrderStatus.CANCELLED ? REFUND : List.of()))
+        .toList();
+  }
+}
@@ -0,0 +1,182 @@
+package com.food.ordering.system.order.service.dataaccess.order.writebehind;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.order.service.dataaccess.OrderFixtures;
+import com.food.ordering.system.order.service.dataaccess.address.DeliveryAddressStore;
+import com.food.ordering.system.order.service.dataaccess.order.adapter.OrderRepositoryImpl;
+import com.food.ordering.system.order.service.dataaccess.order.shard.OrderShardingConfigData;
+import com.food.ordering.system.order.service.dataaccess.order.shard.OrderShards;
+import com.food.ordering.system.order.service.dataaccess.order.shard.ShardedOrderRepository;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives orders through their transitions, flushes part of them, abandons the repository without
+ * stopping it and damages the tail of the log. A second repository on the same databases must
+ * recover every acknowledged transition.
+ */
+class WriteBehindOrderRepositoryTest {
+  private static final int ORDER_COUNT = 600;
+  private static final List<FailureReason> REJECTION = List.of(FailureReason.of(FailureCode.RESTAURANT_REJECTED));
+  private static final List<FailureReason> REFUND = List.of(FailureReason.of(FailureCode.PAYMENT_NOT_FOUND, "refund"));
+
+  @TempDir
+  Path walDirectory;
+
+  private OrderShards shards;
+  private ShardedOrderRepository orderTables;
+  private OrderStateBatchWriter batchWriter;
+  private WriteBehindOrderRepository recovered;
+
+  @AfterEach
+  void tearDown() {
+    if (recovered != null) {
+      recovered.stop();
+    }
+    shards.destroy();
+  }
+
+  @ParameterizedTest(name = "{0} shard(s)")
+  @ValueSource(ints = {1, 3})
+  void recoversAcknowledgedTransitionsAfterTornLastRecord(int shardCount) throws IOException {
+    openOrderTables(shardCount);
+    WriteBehindOrderRepository crashed = startRepository();
+    Map<UUID, Order> expected = driveOrders(crashed);
+    assertThat(crashed.getPendingCount()).isPositive();
+
+    appendToNewestLogFile(new byte[]{0, 0, 0, 64, 1, 2, 3, 4, 5, 6, 7, 8});
+    recovered = startRepository();
+
+    assertRecovered(expected);
+  }
+
+  @ParameterizedTest(name = "{0} shard(s)")
+  @ValueSource(ints = {1, 3})
+  void recoversAcknowledgedTransitionsAfterLastRecordWithBadChecksum(int shardCount) throws IOException {
+    openOrderTables(shardCount);
+    WriteBehindOrderRepository crashed = startRepository();
+    Map<UUID, Order> expected = driveOrders(crashed);
+    assertThat(crashed.getPendingCount()).isPositive();
+
+    ByteBuffer record = ByteBuffer.allocate(Integer.BYTES * 2 + 32).putInt(32).putInt(0xbad);
+    while (record.hasRemaining()) {
+      record.put((byte) 0x7f);
+    }
+    appendToNewestLogFile(record.array());
+    recovered = startRepository();
+
+    assertRecovered(expected);
+  }
+
+  private void openOrderTables(int shardCount) {
+    OrderShardingConfigData shardingConfig = new OrderShardingConfigData();
+    shardingConfig.setEnabled(shardCount > 1);
+    for (int i = 0; shardCount > 1 && i < shardCount; i++) {
+      OrderShardingConfigData.Shard shard = new OrderShardingConfigData.Shard();
+      shard.setName("shard-" + i);
+      shard.setUrl(OrderFixtures.databaseUrl("wal-recovery-shard-" + i));
+      shardingConfig.getShards().add(shard);
+    }
+    DriverManagerDataSource dataSource = OrderFixtures.database("wal-recovery");
+    NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    shards = new OrderShards(shardingConfig,
+        new OrderRepositoryImpl(jdbcTemplate, new DeliveryAddressStore(jdbcTemplate, 1_000), transactionTemplate),
+        jdbcTemplate, transactionTemplate, 1_000);
+    orderTables = new ShardedOrderRepository(shards, shardingConfig);
+    batchWriter = new OrderStateBatchWriter(shards);
+  }
+
+  private WriteBehindOrderRepository startRepository() {
+    OrderWriteBehindConfigData config = new OrderWriteBehindConfigData();
+    config.setEnabled(true);
+    config.setWalDirectory(walDirectory.toString());
+    config.setFlushInterval(Duration.ofHours(1));
+    WriteBehindOrderRepository repository = new WriteBehindOrderRepository(orderTables, batchWriter, config);
+    repository.start();
+    return repository;
+  }
+
+  private Map<UUID, Order> driveOrders(WriteBehindOrderRepository repository) {
+    SplittableRandom random = new SplittableRandom(42);
+    List<Restaurant> restaurants = OrderFixtures.restaurants(20, random);
+    OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+    Map<UUID, Order> orders = new HashMap<>();
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      Restaurant restaurant = restaurants.get(random.nextInt(restaurants.size()));
+      Order order = OrderFixtures.order(restaurant, random);
+      orderDomainService.validateAndInitiateOrder(order, restaurant);
+      repository.save(order);
+      orderDomainService.payOrder(order);
+      repository.save(order);
+      if (i % 3 == 0) {
+        orderDomainService.cancelOrderPayment(order, REJECTION);
+        repository.save(order);
+        orderDomainService.cancelOrder(order, REFUND);
+      } else if (i % 3 == 1) {
+        orderDomainService.approveOrder(order);
+      }
+      repository.save(order);
+      orders.put(order.getId().getValue(), order);
+      if (i == ORDER_COUNT / 2) {
+        repository.flush();
+      }
+    }
+    return orders;
+  }
+
+  private void appendToNewestLogFile(byte[] bytes) throws IOException {
+    Path newest;
+    try (Stream<Path> files = Files.list(walDirectory)) {
+      newest = files.max(Path::compareTo).orElseThrow();
+    }
+    Files.write(newest, bytes, StandardOpenOption.APPEND);
+  }
+
+  private void assertRecovered(Map<UUID, Order> expected) {
+    List<TrackingId> trackingIds = new ArrayList<>(expected.size());
+    expected.values().forEach(order -> trackingIds.add(order.getTrackingId()));
+    List<Order> stored = orderTables.findByTrackingIdIn(trackingIds);
+
+    assertThat(stored).hasSize(expected.size());
+    for (Order order : stored) {
+      Order want = expected.get(order.getId().getValue());
+      assertThat(order.getOrderStatus()).as("status of %s", order.getId().getValue())
+          .isEqualTo(want.getOrderStatus());
+      assertThat(reasons(order)).as("failure reasons of %s", order.getId().getValue())
+          .isEqualTo(reasons(want));
+    }
+  }
+
+  private static List<FailureReason> reasons(Order order) {
+    return order.getFailureReasons() == null ? List.of() : order.getFailureReasons();
+  }
+}
@@ -0,0 +1,97 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.track.BatchTrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.BatchTrackOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderArchiveRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Component
+public class OrderTrackCommandHandler {
+  private final OrderDataMapper orderDataMapper;
+  private final OrderRepository orderRepository;
+  private final OrderArchiveRepository orderArchiveRepository;
+
+  public OrderTrackCommandHandler(OrderDataMapper orderDataMapper,
+                                  OrderRepository orderRepository,
+                                  OrderArchiveRepository orderArchiveRepository) {
+    this.orderDataMapper = orderDataMapper;
+    this.orderRepository = orderRepository;
+    this.orderArchiveRepository = orderArchiveRepository;
+  }
+
+  @Transactional(readOnly = true)
+  public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
+    TrackingId trackingId = new TrackingId(trackOrderQuery.getOrderTrackingId());
+    Optional<Order> order = orderRepository.findByTrackingId(trackingId);
+    if (order.isEmpty()) {
+      // terminal orders are moved to the archive, so a miss in the order tables is checked there.
+      order = orderArchiveRepository.findByTrackingId(trackingId);
+    }
+    if (order.isEmpty()) {
+      log.warn("Could not find order with tracking id: {}", trackingId.getValue());
+      throw new OrderNotFoundException("Could not find order with tracking id: " + trackingId.getValue());
+    }
+    return orderDataMapper.orderToTrackOrderResponse(order.get());
+  }
+
+  /**
+   * Resolves every tracking id with one grouped lookup against the order tables and one against the
+   * archive for whatever the order tables did not have.
+   */
+  @Transactional(readOnly = true)
+  public BatchTrackOrderResponse trackOrders(BatchTrackOrderQuery batchTrackOrderQuery) {
+    List<UUID> requested = batchTrackOrderQuery.getOrderTrackingIds();
+    if (requested.size() > BatchTrackOrderQuery.MAX_TRACKING_IDS) {
+      throw new OrderDomainException("At most " + BatchTrackOrderQuery.MAX_TRACKING_IDS
+          + " orders can be tracked at once, requested: " + requested.size());
+    }
+    Set<TrackingId> remaining = new LinkedHashSet<>(requested.size());
+    for (UUID orderTrackingId : requested) {
+      remaining.add(new TrackingId(orderTrackingId));
+    }
+
+    Map<UUID, Order> found = new HashMap<>(remaining.size());
+    collect(orderRepository.findByTrackingIdIn(remaining), found, remaining);
+    if (!remaining.isEmpty()) {
+      collect(orderArchiveRepository.findByTrackingIdIn(remaining), found, remaining);
+    }
+
+    List<BatchTrackOrderResponse.TrackOrderResult> results = new ArrayList<>(requested.size());
+    for (UUID orderTrackingId : requested) {
+      Order order = found.get(orderTrackingId);
+      results.add(BatchTrackOrderResponse.TrackOrderResult.builder()
+          .orderTrackingId(orderTrackingId)
+          .found(order != null)
+          .order(order == null ? null : orderDataMapper.orderToTrackOrderResponse(order))
+          .build());
+    }
+    return BatchTrackOrderResponse.builder().results(results).build();
+  }
+
+  private void collect(List<Order> orders, Map<UUID, Order> found, Set<TrackingId> remaining) {
+    for (Order order : orders) {
+      found.put(order.getTrackingId().getValue(), order);
+      remaining.remove(order.getTrackingId());
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Admits an order when it is created and keeps its in-flight permit until the saga ends, with the
+ * order approved or cancelled. A permit is also given back when the transaction that created the
+ * order rolls back. Orders created before a restart hold no permit.
+ * <p>
+ * Nothing else frees a permit, so a saga whose response never arrives relies on
+ * {@link com.food.ordering.system.order.service.domain.expiry.OrderExpiryHandler} cancelling its
+ * order through this service; without order expiry such permits stay held until a restart.
+ */
+public class AdmissionControlledOrderDomainService implements OrderDomainService {
+
+  private final OrderDomainService delegate;
+  private final RestaurantAdmissionController admissionController;
+  private final ConcurrentMap<OrderId, AdmissionPermit> permits = new ConcurrentHashMap<>();
+
+  public AdmissionControlledOrderDomainService(OrderDomainService delegate,
+                                               RestaurantAdmissionController admissionController) {
+    this.delegate = delegate;
+    this.admissionController = admissionController;
+  }
+
+  @Override
+  public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
+    AdmissionPermit permit = admissionController.admit(restaurant.getId());
+    OrderCreatedEvent event;
+    try {
+      event = delegate.validateAndInitiateOrder(order, restaurant);
+    } catch (RuntimeException e) {
+      permit.close();
+      throw e;
+    }
+    OrderId orderId = order.getId();
+    permits.put(orderId, permit);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            release(orderId);
+          }
+        }
+      });
+    }
+    return event;
+  }
+
+  @Override
+  public OrderPaidEvent payOrder(Order order) {
+    return delegate.payOrder(order);
+  }
+
+  @Override
+  public void approveOrder(Order order) {
+    delegate.approveOrder(order);
+    release(order.getId());
+  }
+
+  @Override
+  public OrderCancelledEvent cancelOrderPayment(Order order, List<FailureReason> failureReasons) {
+    return delegate.cancelOrderPayment(order, failureReasons);
+  }
+
+  @Override
+  public void cancelOrder(Order order, List<FailureReason> failureReasons) {
+    delegate.cancelOrder(order, failureReasons);
+    release(order.getId());
+  }
+
+  private void release(OrderId orderId) {
+    AdmissionPermit permit = permits.remove(orderId);
+    if (permit != null) {
+      permit.close();
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class AdmissionPermit implements AutoCloseable {
+  private final RestaurantLimiter limiter;
+  private final AtomicBoolean released = new AtomicBoolean();
+
+  AdmissionPermit(RestaurantLimiter limiter) {
+    this.limiter = limiter;
+  }
+
+  @Override
+  public void close() {
+    if (released.compareAndSet(false, true)) {
+      limiter.releaseInFlight();
+    }
+  }
+}
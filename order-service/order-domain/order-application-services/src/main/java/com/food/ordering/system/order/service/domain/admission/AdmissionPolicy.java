@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class AdmissionPolicy {
+  public static final AdmissionPolicy DEFAULT = AdmissionPolicy.builder()
+      .permitsPerSecond(50)
+      .burst(100)
+      .maxInFlight(200)
+      .inFlightRetryAfter(Duration.ofMillis(100))
+      .build();
+
+  private final double permitsPerSecond;
+  private final int burst;
+  private final int maxInFlight;
+  private final Duration inFlightRetryAfter;
+}
@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+
+import java.time.Duration;
+
+public class OrderAdmissionRejectedException extends OrderDomainException {
+  private final transient Duration retryAfter;
+
+  public OrderAdmissionRejectedException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+
+  // rejections are expected under load, skip the stack walk so shedding stays cheap.
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
@@ -0,0 +1,65 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+public class RestaurantAdmissionController {
+  private final ConcurrentMap<RestaurantId, RestaurantLimiter> limiters = new ConcurrentHashMap<>();
+  private final AdmissionPolicy defaultPolicy;
+  private final LongSupplier nanoClock;
+
+  public RestaurantAdmissionController(AdmissionPolicy defaultPolicy) {
+    this(defaultPolicy, System::nanoTime);
+  }
+
+  RestaurantAdmissionController(AdmissionPolicy defaultPolicy, LongSupplier nanoClock) {
+    this.defaultPolicy = defaultPolicy;
+    this.nanoClock = nanoClock;
+  }
+
+  public AdmissionPermit admit(RestaurantId restaurantId) {
+    RestaurantLimiter limiter = limiterFor(restaurantId);
+    if (!limiter.tryAcquireInFlight()) {
+      throw new OrderAdmissionRejectedException("Too many orders in flight for restaurant. RestaurantId: "
+          + restaurantId.getValue(), limiter.getInFlightRetryAfter());
+    }
+    long waitNanos = limiter.tryConsumeToken(nanoClock.getAsLong());
+    if (waitNanos > 0) {
+      limiter.releaseInFlight();
+      throw new OrderAdmissionRejectedException("Order rate limit exceeded for restaurant. RestaurantId: "
+          + restaurantId.getValue(), Duration.ofNanos(waitNanos));
+    }
+    return new AdmissionPermit(limiter);
+  }
+
+  /**
+   * Replaces the limits of a restaurant in place, so permits already held keep counting against
+   * the new in-flight cap.
+   */
+  public void updatePolicy(RestaurantId restaurantId, AdmissionPolicy policy) {
+    limiters.compute(restaurantId, (id, limiter) -> {
+      if (limiter == null) {
+        return new RestaurantLimiter(policy, nanoClock.getAsLong());
+      }
+      limiter.updatePolicy(policy);
+      return limiter;
+    });
+  }
+
+  public int getInFlight(RestaurantId restaurantId) {
+    RestaurantLimiter limiter = limiters.get(restaurantId);
+    return limiter == null ? 0 : limiter.getInFlight();
+  }
+
+  private RestaurantLimiter limiterFor(RestaurantId restaurantId) {
+    RestaurantLimiter limiter = limiters.get(restaurantId);
+    if (limiter != null) {
+      return limiter;
+    }
+    return limiters.computeIfAbsent(restaurantId, id -> new RestaurantLimiter(defaultPolicy, nanoClock.getAsLong()));
+  }
+}
@@ -0,0 +1,84 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free limiter state for a single restaurant.
+ * The token bucket is kept as a theoretical arrival time (GCRA), so a permit costs one CAS.
+ * Limits can be replaced while orders are in flight; the in-flight count and the bucket carry over.
+ */
+class RestaurantLimiter {
+  private final AtomicLong theoreticalArrivalNanos;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile Limits limits;
+
+  RestaurantLimiter(AdmissionPolicy policy, long nowNanos) {
+    this.limits = new Limits(policy);
+    this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+  }
+
+  void updatePolicy(AdmissionPolicy policy) {
+    limits = new Limits(policy);
+  }
+
+  boolean tryAcquireInFlight() {
+    int maxInFlight = limits.maxInFlight;
+    int current;
+    do {
+      current = inFlight.get();
+      if (current >= maxInFlight) {
+        return false;
+      }
+    } while (!inFlight.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  void releaseInFlight() {
+    inFlight.decrementAndGet();
+  }
+
+  /**
+   * @return 0 when a token was taken, otherwise the nanos until the next token becomes available.
+   */
+  long tryConsumeToken(long nowNanos) {
+    Limits current = limits;
+    while (true) {
+      long theoreticalArrival = theoreticalArrivalNanos.get();
+      long next = Math.max(theoreticalArrival, nowNanos) + current.emissionIntervalNanos;
+      long allowedAt = next - current.burstToleranceNanos;
+      if (allowedAt > nowNanos) {
+        return allowedAt - nowNanos;
+      }
+      if (theoreticalArrivalNanos.compareAndSet(theoreticalArrival, next)) {
+        return 0;
+      }
+    }
+  }
+
+  int getInFlight() {
+    return inFlight.get();
+  }
+
+  Duration getInFlightRetryAfter() {
+    return limits.inFlightRetryAfter;
+  }
+
+  private static final class Limits {
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxInFlight;
+    private final Duration inFlightRetryAfter;
+
+    private Limits(AdmissionPolicy policy) {
+      if (policy.getPermitsPerSecond() <= 0 || policy.getBurst() <= 0 || policy.getMaxInFlight() <= 0) {
+        throw new IllegalArgumentException("Admission policy limits must be greater than zero");
+      }
+      this.emissionIntervalNanos = (long) (1_000_000_000L / policy.getPermitsPerSecond());
+      this.burstToleranceNanos = emissionIntervalNanos * policy.getBurst();
+      this.maxInFlight = policy.getMaxInFlight();
+      this.inFlightRetryAfter = policy.getInFlightRetryAfter();
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.food.ordering.system.order.service.domain.customer;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over customer ids. Bit positions come from double hashing of the two
+ * halves of the UUID, so a lookup costs k array reads and no allocation.
+ */
+class CustomerBloomFilter {
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+  private final long expectedInsertions;
+  private final AtomicLong insertions = new AtomicLong();
+
+  private CustomerBloomFilter(long bitCount, int hashCount, long expectedInsertions) {
+    this.words = new AtomicLongArray(Math.toIntExact((bitCount + 63) >>> 6));
+    this.bitCount = bitCount;
+    this.hashCount = hashCount;
+    this.expectedInsertions = expectedInsertions;
+  }
+
+  static CustomerBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("Bloom filter needs positive insertions and a false positive rate in (0, 1)");
+    }
+    long bits = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+    int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+    return new CustomerBloomFilter(bits, hashes, expectedInsertions);
+  }
+
+  void add(UUID id) {
+    long h1 = mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    long h2 = mix(id.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+    boolean changed = false;
+    for (int i = 0; i < hashCount; i++) {
+      changed |= setBit(Math.floorMod(h1 + i * h2, bitCount));
+    }
+    if (changed) {
+      insertions.incrementAndGet();
+    }
+  }
+
+  boolean mightContain(UUID id) {
+    long h1 = mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    long h2 = mix(id.getLeastSignificantBits() + 0x9E3779B97F4A7C15L) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(h1 + i * h2, bitCount);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  boolean isSaturated() {
+    return insertions.get() > expectedInsertions;
+  }
+
+  long getExpectedInsertions() {
+    return expectedInsertions;
+  }
+
+  long getInsertions() {
+    return insertions.get();
+  }
+
+  private boolean setBit(long bit) {
+    int index = (int) (bit >>> 6);
+    long mask = 1L << bit;
+    long word;
+    do {
+      word = words.get(index);
+      if ((word & mask) != 0) {
+        return false;
+      }
+    } while (!words.compareAndSet(index, word, word | mask));
+    return true;
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xFF51AFD7ED558CCDL;
+    value ^= value >>> 33;
+    value *= 0xC4CEB9FE1A85EC53L;
+    return value ^ (value >>> 33);
+  }
+}
@@ -0,0 +1,41 @@
+package com.food.ordering.system.order.service.domain.customer;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.customer.CustomerMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+public class CustomerMessageListenerImpl implements CustomerMessageListener {
+
+  private final CustomerRepository customerRepository;
+  private final CustomerVerifier customerVerifier;
+
+  public CustomerMessageListenerImpl(CustomerRepository customerRepository, CustomerVerifier customerVerifier) {
+    this.customerRepository = customerRepository;
+    this.customerVerifier = customerVerifier;
+  }
+
+  @Override
+  public void customerCreated(CustomerModel customerModel) {
+    CustomerId customerId = new CustomerId(customerModel.getId());
+    customerRepository.save(new Customer(customerId));
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          customerVerifier.registerCustomer(customerId);
+        }
+      });
+    } else {
+      customerVerifier.registerCustomer(customerId);
+    }
+    log.info("Customer is created in order database with id: {}", customerId.getValue());
+  }
+}
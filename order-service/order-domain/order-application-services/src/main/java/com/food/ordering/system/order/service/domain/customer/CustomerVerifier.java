@@ -0,0 +1,107 @@
+package com.food.ordering.system.order.service.domain.customer;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Answers whether a customer exists without a database round trip for most orders. A Bloom filter
+ * of known ids rejects unknown ids outright; ids it cannot rule out are resolved through a small
+ * LRU of confirmed answers and only then through the repository.
+ * <p>
+ * The filter is loaded from the repository by {@link #rebuild()} and kept current by
+ * {@link #registerCustomer(CustomerId)} for every customer created afterwards. Registrations made
+ * while a rebuild runs go to both filters, so the swap does not lose any.
+ */
+@Slf4j
+public class CustomerVerifier {
+  private static final int CACHE_STRIPES = 16;
+
+  private final CustomerRepository customerRepository;
+  private final double falsePositiveRate;
+  private final StripedLruCache<UUID, Boolean> confirmed;
+  private final AtomicBoolean resizing = new AtomicBoolean();
+  private final LongAdder rejectedByFilter = new LongAdder();
+  private final LongAdder databaseLookups = new LongAdder();
+  private volatile CustomerBloomFilter filter;
+  private volatile CustomerBloomFilter building;
+
+  public CustomerVerifier(CustomerRepository customerRepository, long expectedCustomers, double falsePositiveRate,
+                          int cacheSize) {
+    this.customerRepository = customerRepository;
+    this.falsePositiveRate = falsePositiveRate;
+    this.confirmed = new StripedLruCache<>(cacheSize, CACHE_STRIPES);
+    this.filter = CustomerBloomFilter.create(expectedCustomers, falsePositiveRate);
+  }
+
+  public boolean exists(CustomerId customerId) {
+    UUID id = customerId.getValue();
+    if (!filter.mightContain(id)) {
+      rejectedByFilter.increment();
+      return false;
+    }
+    Boolean known = confirmed.get(id);
+    if (known != null) {
+      return known;
+    }
+    databaseLookups.increment();
+    boolean exists = customerRepository.findCustomer(id).isPresent();
+    // a concurrent registration wins over a lookup that may have read before it committed
+    confirmed.putIfAbsent(id, exists);
+    return exists;
+  }
+
+  public void registerCustomer(CustomerId customerId) {
+    UUID id = customerId.getValue();
+    // read in the reverse order of rebuild's writes: if no rebuild is seen in progress here, one
+    // that starts later scans this already committed id, and one that ended swapped in the filter
+    // read below.
+    CustomerBloomFilter next = building;
+    CustomerBloomFilter current = filter;
+    current.add(id);
+    if (next != null) {
+      next.add(id);
+    }
+    confirmed.put(id, Boolean.TRUE);
+    if (current.isSaturated() && resizing.compareAndSet(false, true)) {
+      log.warn("Customer filter holds {} ids for an expected {}, rebuilding at twice the size",
+          current.getInsertions(), current.getExpectedInsertions());
+      CompletableFuture.runAsync(() -> rebuild(current.getExpectedInsertions() * 2))
+          .whenComplete((ignored, e) -> {
+            resizing.set(false);
+            if (e != null) {
+              log.error("Could not rebuild customer filter", e);
+            }
+          });
+    }
+  }
+
+  public void rebuild() {
+    rebuild(filter.getExpectedInsertions());
+  }
+
+  public long getRejectedByFilter() {
+    return rejectedByFilter.sum();
+  }
+
+  public long getDatabaseLookups() {
+    return databaseLookups.sum();
+  }
+
+  private synchronized void rebuild(long expectedCustomers) {
+    CustomerBloomFilter next = CustomerBloomFilter.create(expectedCustomers, falsePositiveRate);
+    building = next;
+    try {
+      customerRepository.forEachCustomerId(next::add);
+      filter = next;
+    } finally {
+      building = null;
+    }
+    log.info("Customer filter rebuilt with {} customers", next.getInsertions());
+  }
+}
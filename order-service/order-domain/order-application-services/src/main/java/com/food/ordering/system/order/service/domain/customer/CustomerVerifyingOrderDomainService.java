@@ -0,0 +1,54 @@
+package com.food.ordering.system.order.service.domain.customer;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+
+@Slf4j
+public class CustomerVerifyingOrderDomainService implements OrderDomainService {
+
+  private final OrderDomainService delegate;
+  private final CustomerVerifier customerVerifier;
+
+  public CustomerVerifyingOrderDomainService(OrderDomainService delegate, CustomerVerifier customerVerifier) {
+    this.delegate = delegate;
+    this.customerVerifier = customerVerifier;
+  }
+
+  @Override
+  public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
+    if (!customerVerifier.exists(order.getCustomerId())) {
+      log.warn("Could not find customer with customer id: {}", order.getCustomerId().getValue());
+      throw new OrderDomainException("Could not find customer with customer id: " + order.getCustomerId().getValue());
+    }
+    return delegate.validateAndInitiateOrder(order, restaurant);
+  }
+
+  @Override
+  public OrderPaidEvent payOrder(Order order) {
+    return delegate.payOrder(order);
+  }
+
+  @Override
+  public void approveOrder(Order order) {
+    delegate.approveOrder(order);
+  }
+
+  @Override
+  public OrderCancelledEvent cancelOrderPayment(Order order, List<FailureReason> failureReasons) {
+    return delegate.cancelOrderPayment(order, failureReasons);
+  }
+
+  @Override
+  public void cancelOrder(Order order, List<FailureReason> failureReasons) {
+    delegate.cancelOrder(order, failureReasons);
+  }
+}
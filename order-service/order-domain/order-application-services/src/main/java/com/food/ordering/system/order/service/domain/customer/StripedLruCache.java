@@ -0,0 +1,61 @@
+package com.food.ordering.system.order.service.domain.customer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small LRU split into independently locked stripes, each evicting its own least recently used
+ * entry, so concurrent lookups of different keys rarely contend.
+ */
+class StripedLruCache<K, V> {
+  private final Stripe<K, V>[] stripes;
+
+  @SuppressWarnings("unchecked")
+  StripedLruCache(int capacity, int stripeCount) {
+    stripes = new Stripe[stripeCount];
+    int perStripe = Math.max(1, capacity / stripeCount);
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe<>(perStripe);
+    }
+  }
+
+  V get(K key) {
+    Stripe<K, V> stripe = stripeFor(key);
+    synchronized (stripe) {
+      return stripe.get(key);
+    }
+  }
+
+  void put(K key, V value) {
+    Stripe<K, V> stripe = stripeFor(key);
+    synchronized (stripe) {
+      stripe.put(key, value);
+    }
+  }
+
+  void putIfAbsent(K key, V value) {
+    Stripe<K, V> stripe = stripeFor(key);
+    synchronized (stripe) {
+      stripe.putIfAbsent(key, value);
+    }
+  }
+
+  private Stripe<K, V> stripeFor(K key) {
+    int hash = key.hashCode();
+    return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+  }
+
+  private static final class Stripe<K, V> extends LinkedHashMap<K, V> {
+    private final int capacity;
+
+    private Stripe(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+      return size() > capacity;
+    }
+  }
+}
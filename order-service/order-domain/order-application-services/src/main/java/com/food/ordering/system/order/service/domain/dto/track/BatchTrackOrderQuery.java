@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.dto.track;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class BatchTrackOrderQuery {
+  public static final int MAX_TRACKING_IDS = 500;
+
+  @NotNull
+  @Size(min = 1, max = MAX_TRACKING_IDS)
+  private final List<UUID> orderTrackingIds;
+}
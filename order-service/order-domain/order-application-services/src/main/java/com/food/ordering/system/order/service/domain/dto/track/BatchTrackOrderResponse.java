@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain.dto.track;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class BatchTrackOrderResponse {
+  // one result per requested tracking id, in request order.
+  @NotNull
+  private final List<TrackOrderResult> results;
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  public static class TrackOrderResult {
+    @NotNull
+    private final UUID orderTrackingId;
+    private final boolean found;
+    // null when the order was not found.
+    private final TrackOrderResponse order;
+  }
+}
@@ -0,0 +1,10 @@
+package com.food.ordering.system.order.service.domain.expiry;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+/**
+ * An order whose deadline in {@code orderStatus} has passed.
+ */
+public record ExpiringOrder(TrackingId trackingId, OrderStatus orderStatus) {
+}
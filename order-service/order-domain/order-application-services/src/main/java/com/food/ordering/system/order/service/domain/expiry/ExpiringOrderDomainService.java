@@ -0,0 +1,85 @@
+package com.food.ordering.system.order.service.domain.expiry;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Registers a deadline whenever an order starts waiting for a saga response and drops it on the
+ * order's next transition. Inside a transaction the deadline changes once it commits, so a rolled
+ * back transition leaves the deadline of the state the order is still in.
+ */
+public class ExpiringOrderDomainService implements OrderDomainService {
+
+  private final OrderDomainService delegate;
+  private final OrderExpiryScheduler expiryScheduler;
+
+  public ExpiringOrderDomainService(OrderDomainService delegate, OrderExpiryScheduler expiryScheduler) {
+    this.delegate = delegate;
+    this.expiryScheduler = expiryScheduler;
+  }
+
+  @Override
+  public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
+    OrderCreatedEvent event = delegate.validateAndInitiateOrder(order, restaurant);
+    schedule(order.getTrackingId(), order.getOrderStatus());
+    return event;
+  }
+
+  @Override
+  public OrderPaidEvent payOrder(Order order) {
+    OrderPaidEvent event = delegate.payOrder(order);
+    schedule(order.getTrackingId(), order.getOrderStatus());
+    return event;
+  }
+
+  @Override
+  public void approveOrder(Order order) {
+    delegate.approveOrder(order);
+    cancel(order.getTrackingId());
+  }
+
+  @Override
+  public OrderCancelledEvent cancelOrderPayment(Order order, List<FailureReason> failureReasons) {
+    OrderCancelledEvent event = delegate.cancelOrderPayment(order, failureReasons);
+    schedule(order.getTrackingId(), order.getOrderStatus());
+    return event;
+  }
+
+  @Override
+  public void cancelOrder(Order order, List<FailureReason> failureReasons) {
+    delegate.cancelOrder(order, failureReasons);
+    cancel(order.getTrackingId());
+  }
+
+  private void schedule(TrackingId trackingId, OrderStatus orderStatus) {
+    afterCommit(() -> expiryScheduler.schedule(trackingId, orderStatus));
+  }
+
+  private void cancel(TrackingId trackingId) {
+    afterCommit(() -> expiryScheduler.cancel(trackingId));
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    } else {
+      action.run();
+    }
+  }
+}
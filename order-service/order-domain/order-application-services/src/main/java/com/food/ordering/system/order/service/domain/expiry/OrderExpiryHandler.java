@@ -0,0 +1,138 @@
+package com.food.ordering.system.order.service.domain.expiry;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cancels orders whose saga response did not arrive before their deadline. Expired orders are
+ * loaded and cancelled in batches, one transaction per batch; an order that moved on since its
+ * deadline was registered is left alone. A batch whose transaction fails gets its deadlines
+ * registered again, so its orders are retried rather than left waiting.
+ * <p>
+ * An order that timed out waiting for restaurant approval moves to CANCELLING, but no refund
+ * request is issued for it: this service has no outbound payment port yet, so the
+ * {@code OrderCancelledEvent} is dropped and the order is cancelled when its CANCELLING deadline
+ * passes. The payment has to be refunded out of band until such a port exists.
+ * <p>
+ * On start the deadlines of every waiting order are rebuilt from storage, measured from the
+ * restart since the time an order entered its state is not stored.
+ */
+@Slf4j
+@Component
+public class OrderExpiryHandler implements SmartLifecycle {
+  private static final List<FailureReason> PAYMENT_TIMEOUT = List.of(FailureReason.of(FailureCode.PAYMENT_TIMEOUT));
+  private static final List<FailureReason> APPROVAL_TIMEOUT =
+      List.of(FailureReason.of(FailureCode.RESTAURANT_APPROVAL_TIMEOUT));
+  private static final List<FailureReason> CANCELLATION_TIMEOUT =
+      List.of(FailureReason.of(FailureCode.PAYMENT_CANCELLATION_TIMEOUT));
+  private static final List<OrderStatus> WAITING_STATUSES =
+      List.of(OrderStatus.PENDING, OrderStatus.PAID, OrderStatus.CANCELLING);
+
+  private final OrderExpiryScheduler expiryScheduler;
+  private final OrderExpiryPolicy expiryPolicy;
+  private final OrderDomainService orderDomainService;
+  private final OrderRepository orderRepository;
+  private final TransactionTemplate transactionTemplate;
+  private volatile boolean running;
+
+  public OrderExpiryHandler(OrderExpiryScheduler expiryScheduler,
+                            OrderExpiryPolicy expiryPolicy,
+                            OrderDomainService orderDomainService,
+                            OrderRepository orderRepository,
+                            TransactionTemplate transactionTemplate) {
+    this.expiryScheduler = expiryScheduler;
+    this.expiryPolicy = expiryPolicy;
+    this.orderDomainService = orderDomainService;
+    this.orderRepository = orderRepository;
+    this.transactionTemplate = transactionTemplate;
+  }
+
+  @Scheduled(fixedDelayString = "${order-service.expiry.poll-interval:PT1S}")
+  public void expireOrders() {
+    List<ExpiringOrder> batch;
+    while (!(batch = expiryScheduler.pollExpired(expiryPolicy.getBatchSize())).isEmpty()) {
+      List<ExpiringOrder> orders = batch;
+      try {
+        transactionTemplate.executeWithoutResult(status -> expire(orders));
+      } catch (RuntimeException e) {
+        log.error("Could not expire {} orders, their deadlines are registered again", orders.size(), e);
+        orders.forEach(order -> expiryScheduler.schedule(order.trackingId(), order.orderStatus()));
+      }
+    }
+  }
+
+  private void expire(List<ExpiringOrder> expiringOrders) {
+    Map<TrackingId, OrderStatus> expectedStatuses = new HashMap<>(expiringOrders.size() * 2);
+    for (ExpiringOrder expiringOrder : expiringOrders) {
+      expectedStatuses.put(expiringOrder.trackingId(), expiringOrder.orderStatus());
+    }
+    int expired = 0;
+    for (Order order : orderRepository.findByTrackingIdIn(expectedStatuses.keySet())) {
+      if (order.getOrderStatus() != expectedStatuses.get(order.getTrackingId())) {
+        continue;
+      }
+      try {
+        switch (order.getOrderStatus()) {
+          case PENDING -> orderDomainService.cancelOrder(order, PAYMENT_TIMEOUT);
+          // the cancelled event would request a refund; see the class comment
+          case PAID -> orderDomainService.cancelOrderPayment(order, APPROVAL_TIMEOUT);
+          case CANCELLING -> orderDomainService.cancelOrder(order, CANCELLATION_TIMEOUT);
+          default -> {
+            continue;
+          }
+        }
+        orderRepository.save(order);
+        expired++;
+      } catch (OrderDomainException e) {
+        log.warn("Could not expire order. OrderId: {}", order.getId().getValue(), e);
+      }
+    }
+    log.info("Expired {} of {} orders past their deadline", expired, expiringOrders.size());
+  }
+
+  @Override
+  public void start() {
+    expiryScheduler.start();
+    int[] rebuilt = {0};
+    orderRepository.forEachTrackingIdInStatus(WAITING_STATUSES, (trackingId, orderStatus) -> {
+      expiryScheduler.schedule(trackingId, orderStatus);
+      rebuilt[0]++;
+    });
+    running = true;
+    log.info("Order expiry started with {} deadlines rebuilt from storage", rebuilt[0]);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    expiryScheduler.stop();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Starts after write-behind persistence has replayed its log, so the rebuild sees recovered states.
+   */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 3072;
+  }
+}
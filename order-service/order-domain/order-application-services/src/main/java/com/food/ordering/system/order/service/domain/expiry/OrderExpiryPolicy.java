@@ -0,0 +1,40 @@
+package com.food.ordering.system.order.service.domain.expiry;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderExpiryPolicy {
+  public static final OrderExpiryPolicy DEFAULT = OrderExpiryPolicy.builder()
+      .pendingTimeout(Duration.ofMinutes(5))
+      .paidTimeout(Duration.ofMinutes(10))
+      .cancellingTimeout(Duration.ofMinutes(5))
+      .tick(Duration.ofMillis(100))
+      .batchSize(500)
+      .build();
+
+  private final Duration pendingTimeout;
+  private final Duration paidTimeout;
+  private final Duration cancellingTimeout;
+  private final Duration tick;
+  private final int batchSize;
+
+  /**
+   * @return how long an order may wait in {@code orderStatus} for the next saga response, or null
+   * if the status does not wait for one.
+   */
+  public Duration timeoutFor(OrderStatus orderStatus) {
+    return switch (orderStatus) {
+      case PENDING -> pendingTimeout;
+      case PAID -> paidTimeout;
+      case CANCELLING -> cancellingTimeout;
+      default -> null;
+    };
+  }
+}
@@ -0,0 +1,132 @@
+package com.food.ordering.system.order.service.domain.expiry;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps one deadline per order that is waiting for a saga response. Deadlines live in a
+ * {@link TimingWheel} owned by a single ticker thread; callers hand new and cancelled timers over
+ * through lock-free queues, so scheduling and cancelling cost O(1) and never wait on the wheel.
+ * Expired orders are queued for {@link #pollExpired(int)}.
+ */
+@Slf4j
+public class OrderExpiryScheduler {
+  private final OrderExpiryPolicy policy;
+  private final LongSupplier nanoClock;
+  private final long tickNanos;
+  private final long startNanos;
+  private final TimingWheel<ExpiringOrder> wheel;
+  private final ConcurrentMap<TrackingId, TimingWheel.Timer<ExpiringOrder>> timers = new ConcurrentHashMap<>();
+  private final Queue<TimingWheel.Timer<ExpiringOrder>> additions = new ConcurrentLinkedQueue<>();
+  private final Queue<TimingWheel.Timer<ExpiringOrder>> cancellations = new ConcurrentLinkedQueue<>();
+  private final BlockingQueue<ExpiringOrder> expired = new LinkedBlockingQueue<>();
+  private volatile boolean running;
+  private Thread ticker;
+
+  public OrderExpiryScheduler(OrderExpiryPolicy policy) {
+    this(policy, System::nanoTime);
+  }
+
+  OrderExpiryScheduler(OrderExpiryPolicy policy, LongSupplier nanoClock) {
+    this.policy = policy;
+    this.nanoClock = nanoClock;
+    this.tickNanos = policy.getTick().toNanos();
+    this.startNanos = nanoClock.getAsLong();
+    this.wheel = new TimingWheel<>(0);
+  }
+
+  /**
+   * Replaces the deadline of the order with the one for {@code orderStatus}, or drops it if that
+   * status does not wait for a response.
+   */
+  public void schedule(TrackingId trackingId, OrderStatus orderStatus) {
+    Duration timeout = policy.timeoutFor(orderStatus);
+    if (timeout == null) {
+      cancel(trackingId);
+      return;
+    }
+    long deadlineNanos = nanoClock.getAsLong() - startNanos + timeout.toNanos();
+    TimingWheel.Timer<ExpiringOrder> timer = new TimingWheel.Timer<>(new ExpiringOrder(trackingId, orderStatus),
+        (deadlineNanos + tickNanos - 1) / tickNanos);
+    TimingWheel.Timer<ExpiringOrder> previous = timers.put(trackingId, timer);
+    if (previous != null) {
+      previous.cancelled = true;
+      cancellations.add(previous);
+    }
+    additions.add(timer);
+  }
+
+  public void cancel(TrackingId trackingId) {
+    TimingWheel.Timer<ExpiringOrder> previous = timers.remove(trackingId);
+    if (previous != null) {
+      previous.cancelled = true;
+      cancellations.add(previous);
+    }
+  }
+
+  public List<ExpiringOrder> pollExpired(int maxOrders) {
+    List<ExpiringOrder> batch = new ArrayList<>(Math.min(maxOrders, expired.size()));
+    expired.drainTo(batch, maxOrders);
+    return batch;
+  }
+
+  public int getScheduledCount() {
+    return timers.size();
+  }
+
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    ticker = new Thread(this::tickLoop, "order-expiry-ticker");
+    ticker.setDaemon(true);
+    ticker.start();
+  }
+
+  public synchronized void stop() {
+    running = false;
+    if (ticker != null) {
+      LockSupport.unpark(ticker);
+      ticker = null;
+    }
+  }
+
+  private void tickLoop() {
+    while (running) {
+      long elapsed = nanoClock.getAsLong() - startNanos;
+      advance(elapsed / tickNanos);
+      LockSupport.parkNanos(tickNanos - elapsed % tickNanos);
+    }
+  }
+
+  void advance(long tick) {
+    TimingWheel.Timer<ExpiringOrder> timer;
+    while ((timer = additions.poll()) != null) {
+      if (!timer.cancelled) {
+        wheel.add(timer);
+      }
+    }
+    while ((timer = cancellations.poll()) != null) {
+      wheel.remove(timer);
+    }
+    wheel.advanceTo(tick, due -> {
+      if (!due.cancelled && timers.remove(due.payload.trackingId(), due)) {
+        expired.add(due.payload);
+      }
+    });
+  }
+}
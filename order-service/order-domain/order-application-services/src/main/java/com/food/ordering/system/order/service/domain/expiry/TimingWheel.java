@@ -0,0 +1,153 @@
+package com.food.ordering.system.order.service.domain.expiry;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: {@code LEVELS} wheels of {@code SLOTS} slots, each level covering
+ * {@code SLOTS} times the span of the one below. Timers live in intrusive doubly linked slot lists,
+ * so adding and removing one is O(1); a timer is moved down a level when the lower wheel wraps
+ * around to its slot, and expires from level 0.
+ * <p>
+ * Not thread-safe: it is owned by the thread that advances it.
+ */
+class TimingWheel<T> {
+  static final int SLOT_BITS = 8;
+  static final int SLOTS = 1 << SLOT_BITS;
+  static final int LEVELS = 4;
+  private static final int SLOT_MASK = SLOTS - 1;
+  private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+
+  private final Timer<T>[][] heads;
+  private long currentTick;
+  private int size;
+
+  @SuppressWarnings("unchecked")
+  TimingWheel(long startTick) {
+    this.heads = new Timer[LEVELS][SLOTS];
+    this.currentTick = startTick;
+  }
+
+  /**
+   * Adds a timer; one whose deadline has passed expires on the next tick.
+   */
+  void add(Timer<T> timer) {
+    insert(timer, currentTick + 1);
+  }
+
+  /**
+   * Links the timer into the slot of its deadline, or of {@code earliestTick} if that is later.
+   */
+  private void insert(Timer<T> timer, long earliestTick) {
+    long deadline = Math.max(timer.deadlineTick, earliestTick);
+    long delta = Math.min(deadline - currentTick, MAX_SPAN - 1);
+    deadline = currentTick + delta;
+    int level = 0;
+    while (delta >= (1L << (SLOT_BITS * (level + 1)))) {
+      level++;
+    }
+    int slot = (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+    timer.level = level;
+    timer.slot = slot;
+    timer.previous = null;
+    timer.next = heads[level][slot];
+    if (timer.next != null) {
+      timer.next.previous = timer;
+    }
+    heads[level][slot] = timer;
+    size++;
+  }
+
+  void remove(Timer<T> timer) {
+    if (timer.level < 0) {
+      return;
+    }
+    if (timer.previous != null) {
+      timer.previous.next = timer.next;
+    } else {
+      heads[timer.level][timer.slot] = timer.next;
+    }
+    if (timer.next != null) {
+      timer.next.previous = timer.previous;
+    }
+    timer.previous = null;
+    timer.next = null;
+    timer.level = -1;
+    size--;
+  }
+
+  /**
+   * Moves the wheel forward to {@code tick}, handing every timer whose deadline has passed to
+   * {@code expired}.
+   */
+  void advanceTo(long tick, Consumer<Timer<T>> expired) {
+    while (currentTick < tick) {
+      currentTick++;
+      cascade(1);
+      Timer<T> timer = heads[0][(int) (currentTick & SLOT_MASK)];
+      heads[0][(int) (currentTick & SLOT_MASK)] = null;
+      while (timer != null) {
+        Timer<T> next = timer.next;
+        timer.previous = null;
+        timer.next = null;
+        timer.level = -1;
+        size--;
+        if (timer.deadlineTick <= currentTick) {
+          expired.accept(timer);
+        } else {
+          add(timer);
+        }
+        timer = next;
+      }
+    }
+  }
+
+  long getCurrentTick() {
+    return currentTick;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * When the level below has wrapped, re-adds the timers of the current slot of {@code level}
+   * so they land in a finer wheel. It runs before level 0 expires the current tick, so a timer
+   * due on it goes to the current slot of level 0 rather than the next one.
+   */
+  private void cascade(int level) {
+    if (level >= LEVELS || (currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+      return;
+    }
+    cascade(level + 1);
+    int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    Timer<T> timer = heads[level][slot];
+    heads[level][slot] = null;
+    while (timer != null) {
+      Timer<T> next = timer.next;
+      timer.previous = null;
+      timer.next = null;
+      timer.level = -1;
+      size--;
+      insert(timer, currentTick);
+      timer = next;
+    }
+  }
+
+  static final class Timer<T> {
+    final T payload;
+    final long deadlineTick;
+    /**
+     * Set by any thread; the owning thread skips or unlinks cancelled timers.
+     */
+    volatile boolean cancelled;
+    private Timer<T> previous;
+    private Timer<T> next;
+    private int level = -1;
+    private int slot;
+
+    Timer(T payload, long deadlineTick) {
+      this.payload = payload;
+      this.deadlineTick = deadlineTick;
+    }
+  }
+}
@@ -1,9 +1,32 @@
 package com.food.ordering.system.order.service.domain.mapper;
 
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class OrderDataMapper {
 
+  public TrackOrderResponse orderToTrackOrderResponse(Order order) {
+    return TrackOrderResponse.builder()
+        .orderTrackingId(order.getTrackingId().getValue())
+        .orderStatus(order.getOrderStatus())
+        .failureMessages(failureReasonsToMessages(order.getFailureReasons()))
+        .build();
+  }
 
+  public List<String> failureReasonsToMessages(List<FailureReason> failureReasons) {
+    if (failureReasons == null || failureReasons.isEmpty()) {
+      return List.of();
+    }
+    List<String> messages = new ArrayList<>(failureReasons.size());
+    for (FailureReason failureReason : failureReasons) {
+      messages.add(failureReason.render());
+    }
+    return messages;
+  }
 }
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.entity.Customer;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface CustomerRepository {
+
+  Optional<Customer> findCustomer(UUID customerId);
+
+  Customer save(Customer customer);
+
+  void forEachCustomerId(Consumer<UUID> consumer);
+}
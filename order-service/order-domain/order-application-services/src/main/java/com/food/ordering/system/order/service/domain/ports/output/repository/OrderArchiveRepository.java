@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only cold tier for orders that reached a terminal state and left the order tables.
+ */
+public interface OrderArchiveRepository {
+
+  void archive(List<Order> orders);
+
+  Optional<Order> findByTrackingId(TrackingId trackingId);
+
+  List<Order> findByTrackingIdIn(Collection<TrackingId> trackingIds);
+}
@@ -0,0 +1,30 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+public interface OrderRepository {
+
+  Order save(Order order);
+
+  Optional<Order> findByTrackingId(TrackingId trackingId);
+
+  List<Order> findByTrackingIdIn(Collection<TrackingId> trackingIds);
+
+  List<Order> findByOrderStatusIn(Collection<OrderStatus> orderStatuses, int limit);
+
+  void deleteAllById(Collection<OrderId> orderIds);
+
+  void forEachTrackingIdInStatus(Collection<OrderStatus> orderStatuses, BiConsumer<TrackingId, OrderStatus> consumer);
+
+  Map<RestaurantId, Map<OrderStatus, Long>> countByRestaurantIdAndOrderStatus();
+}
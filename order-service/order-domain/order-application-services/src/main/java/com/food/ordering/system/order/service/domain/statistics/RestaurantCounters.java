@@ -0,0 +1,101 @@
+package com.food.ordering.system.order.service.domain.statistics;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Striped counters of one restaurant. A one-minute window is replaced rather than reset when its
+ * slot in the ring is reused, so rolling over never races with concurrent increments. A minute
+ * whose slot already holds a newer window still counts in the totals but in no window.
+ */
+class RestaurantCounters {
+  private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+
+  private final LongAdder[] ordersByStatus = newAdders();
+  private final LongAdder approvedRevenue = new LongAdder();
+  private final AtomicReferenceArray<Window> windows;
+
+  RestaurantCounters(int windowCount) {
+    this.windows = new AtomicReferenceArray<>(windowCount);
+  }
+
+  void transition(OrderStatus from, OrderStatus to, long minute) {
+    if (from != null) {
+      ordersByStatus[from.ordinal()].decrement();
+    }
+    ordersByStatus[to.ordinal()].increment();
+    Window window = window(minute);
+    if (window != null) {
+      window.transitions[to.ordinal()].increment();
+    }
+  }
+
+  void addOrdersInStatus(OrderStatus orderStatus, long count) {
+    ordersByStatus[orderStatus.ordinal()].add(count);
+  }
+
+  void addApprovedRevenue(long minorUnits, long minute) {
+    approvedRevenue.add(minorUnits);
+    Window window = window(minute);
+    if (window != null) {
+      window.approvedRevenue.add(minorUnits);
+    }
+  }
+
+  long ordersInStatus(OrderStatus orderStatus) {
+    return ordersByStatus[orderStatus.ordinal()].sum();
+  }
+
+  long approvedRevenue() {
+    return approvedRevenue.sum();
+  }
+
+  /**
+   * @return the window of the given minute, or null when nothing was recorded in it.
+   */
+  Window windowAt(long minute) {
+    Window window = windows.get(slot(minute));
+    return window != null && window.minute == minute ? window : null;
+  }
+
+  /**
+   * @return the window of the given minute, replacing an older one in its slot, or null when the
+   * slot already holds a newer minute.
+   */
+  private Window window(long minute) {
+    int slot = slot(minute);
+    Window window = windows.get(slot);
+    while (window == null || window.minute < minute) {
+      Window next = new Window(minute);
+      if (windows.compareAndSet(slot, window, next)) {
+        return next;
+      }
+      window = windows.get(slot);
+    }
+    return window.minute == minute ? window : null;
+  }
+
+  private int slot(long minute) {
+    return (int) Math.floorMod(minute, (long) windows.length());
+  }
+
+  private static LongAdder[] newAdders() {
+    LongAdder[] adders = new LongAdder[ORDER_STATUSES.length];
+    for (int i = 0; i < adders.length; i++) {
+      adders[i] = new LongAdder();
+    }
+    return adders;
+  }
+
+  static final class Window {
+    final long minute;
+    final LongAdder[] transitions = newAdders();
+    final LongAdder approvedRevenue = new LongAdder();
+
+    Window(long minute) {
+      this.minute = minute;
+    }
+  }
+}
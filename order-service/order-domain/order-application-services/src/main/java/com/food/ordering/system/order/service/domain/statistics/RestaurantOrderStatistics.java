@@ -0,0 +1,123 @@
+package com.food.ordering.system.order.service.domain.statistics;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory order counts and revenue per restaurant, fed by order lifecycle transitions so that
+ * dashboards never have to query the order tables. The counts per status are seeded from storage
+ * once at startup, see {@link RestaurantStatisticsSeeder}; revenue and windows start empty.
+ */
+public class RestaurantOrderStatistics {
+  private static final long MINUTE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  private final ConcurrentMap<RestaurantId, RestaurantCounters> counters = new ConcurrentHashMap<>();
+  private final int windowCount;
+  private final LongSupplier clock;
+
+  public RestaurantOrderStatistics(int windowCount) {
+    this(windowCount, System::currentTimeMillis);
+  }
+
+  RestaurantOrderStatistics(int windowCount, LongSupplier clock) {
+    if (windowCount <= 0) {
+      throw new IllegalArgumentException("Window count must be greater than zero");
+    }
+    this.windowCount = windowCount;
+    this.clock = clock;
+  }
+
+  /**
+   * @param from the status before the transition, null for a newly created order.
+   */
+  public void recordTransition(RestaurantId restaurantId, OrderStatus from, OrderStatus to) {
+    countersFor(restaurantId).transition(from, to, currentMinute());
+  }
+
+  /**
+   * Adds orders that are already stored in a status, before any transition of them is recorded.
+   */
+  public void seedOrdersInStatus(RestaurantId restaurantId, Map<OrderStatus, Long> ordersByStatus) {
+    RestaurantCounters restaurantCounters = countersFor(restaurantId);
+    ordersByStatus.forEach(restaurantCounters::addOrdersInStatus);
+  }
+
+  public void recordApproval(RestaurantId restaurantId, Money price) {
+    long minorUnits = price.getAmount().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    countersFor(restaurantId).addApprovedRevenue(minorUnits, currentMinute());
+  }
+
+  public Optional<RestaurantStatisticsSnapshot> snapshot(RestaurantId restaurantId) {
+    RestaurantCounters restaurantCounters = counters.get(restaurantId);
+    return restaurantCounters == null
+        ? Optional.empty()
+        : Optional.of(snapshot(restaurantId, restaurantCounters, windowCount, currentMinute()));
+  }
+
+  /**
+   * @param windows how many of the most recent one-minute windows to include per restaurant.
+   */
+  public List<RestaurantStatisticsSnapshot> snapshotAll(int windows) {
+    int included = Math.min(windows, windowCount);
+    long minute = currentMinute();
+    List<RestaurantStatisticsSnapshot> snapshots = new ArrayList<>(counters.size());
+    counters.forEach((restaurantId, restaurantCounters) ->
+        snapshots.add(snapshot(restaurantId, restaurantCounters, included, minute)));
+    return snapshots;
+  }
+
+  private RestaurantStatisticsSnapshot snapshot(RestaurantId restaurantId, RestaurantCounters restaurantCounters,
+                                                int windows, long minute) {
+    Map<OrderStatus, Long> ordersByStatus = new EnumMap<>(OrderStatus.class);
+    for (OrderStatus orderStatus : OrderStatus.values()) {
+      ordersByStatus.put(orderStatus, restaurantCounters.ordersInStatus(orderStatus));
+    }
+    List<RestaurantStatisticsSnapshot.WindowSnapshot> windowSnapshots = new ArrayList<>(windows);
+    for (long windowMinute = minute; windowMinute > minute - windows; windowMinute--) {
+      windowSnapshots.add(windowSnapshot(restaurantCounters.windowAt(windowMinute), windowMinute));
+    }
+    return RestaurantStatisticsSnapshot.builder()
+        .restaurantId(restaurantId.getValue())
+        .ordersByStatus(ordersByStatus)
+        .approvedRevenueMinorUnits(restaurantCounters.approvedRevenue())
+        .windows(windowSnapshots)
+        .build();
+  }
+
+  private RestaurantStatisticsSnapshot.WindowSnapshot windowSnapshot(RestaurantCounters.Window window,
+                                                                     long minute) {
+    Map<OrderStatus, Long> transitions = new EnumMap<>(OrderStatus.class);
+    for (OrderStatus orderStatus : OrderStatus.values()) {
+      transitions.put(orderStatus, window == null ? 0L : window.transitions[orderStatus.ordinal()].sum());
+    }
+    return RestaurantStatisticsSnapshot.WindowSnapshot.builder()
+        .windowStartEpochMillis(minute * MINUTE_MILLIS)
+        .transitions(transitions)
+        .approvedRevenueMinorUnits(window == null ? 0L : window.approvedRevenue.sum())
+        .build();
+  }
+
+  private RestaurantCounters countersFor(RestaurantId restaurantId) {
+    RestaurantCounters restaurantCounters = counters.get(restaurantId);
+    if (restaurantCounters != null) {
+      return restaurantCounters;
+    }
+    return counters.computeIfAbsent(restaurantId, id -> new RestaurantCounters(windowCount));
+  }
+
+  private long currentMinute() {
+    return clock.getAsLong() / MINUTE_MILLIS;
+  }
+}
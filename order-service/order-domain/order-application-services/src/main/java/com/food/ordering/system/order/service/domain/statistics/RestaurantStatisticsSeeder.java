@@ -0,0 +1,59 @@
+package com.food.ordering.system.order.service.domain.statistics;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Seeds the per-status order counts from the order tables on start, so that orders stored before a
+ * restart are counted and their later transitions do not drive a status negative.
+ */
+@Slf4j
+@Component
+public class RestaurantStatisticsSeeder implements SmartLifecycle {
+  private final RestaurantOrderStatistics restaurantOrderStatistics;
+  private final OrderRepository orderRepository;
+  private volatile boolean seeded;
+  private volatile boolean running;
+
+  public RestaurantStatisticsSeeder(RestaurantOrderStatistics restaurantOrderStatistics,
+                                    OrderRepository orderRepository) {
+    this.restaurantOrderStatistics = restaurantOrderStatistics;
+    this.orderRepository = orderRepository;
+  }
+
+  @Override
+  public void start() {
+    if (!seeded) {
+      Map<RestaurantId, Map<OrderStatus, Long>> counts = orderRepository.countByRestaurantIdAndOrderStatus();
+      counts.forEach(restaurantOrderStatistics::seedOrdersInStatus);
+      seeded = true;
+      log.info("Restaurant order statistics seeded for {} restaurants", counts.size());
+    }
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Starts after write-behind persistence has replayed its log, and before message listeners
+   * deliver the first transition.
+   */
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 3072;
+  }
+}
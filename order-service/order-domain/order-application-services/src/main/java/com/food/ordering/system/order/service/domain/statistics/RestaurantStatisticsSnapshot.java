@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.domain.statistics;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RestaurantStatisticsSnapshot {
+  private final UUID restaurantId;
+  // orders currently in each status, terminal statuses count every order that reached them and was not archived
+  // before the last start.
+  private final Map<OrderStatus, Long> ordersByStatus;
+  private final long approvedRevenueMinorUnits;
+  // most recent minute first, the first window is still open.
+  private final List<WindowSnapshot> windows;
+
+  @Getter
+  @Builder
+  @AllArgsConstructor
+  public static class WindowSnapshot {
+    private final long windowStartEpochMillis;
+    // transitions into each status during the window.
+    private final Map<OrderStatus, Long> transitions;
+    private final long approvedRevenueMinorUnits;
+  }
+}
@@ -0,0 +1,94 @@
+package com.food.ordering.system.order.service.domain.statistics;
+
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Records every order transition in {@link RestaurantOrderStatistics}. Inside a transaction a
+ * transition is recorded once it commits, so rolled back ones never reach the counters.
+ */
+public class StatisticsRecordingOrderDomainService implements OrderDomainService {
+
+  private final OrderDomainService delegate;
+  private final RestaurantOrderStatistics restaurantOrderStatistics;
+
+  public StatisticsRecordingOrderDomainService(OrderDomainService delegate,
+                                               RestaurantOrderStatistics restaurantOrderStatistics) {
+    this.delegate = delegate;
+    this.restaurantOrderStatistics = restaurantOrderStatistics;
+  }
+
+  @Override
+  public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
+    OrderCreatedEvent orderCreatedEvent = delegate.validateAndInitiateOrder(order, restaurant);
+    recordTransition(order, null);
+    return orderCreatedEvent;
+  }
+
+  @Override
+  public OrderPaidEvent payOrder(Order order) {
+    OrderStatus from = order.getOrderStatus();
+    OrderPaidEvent orderPaidEvent = delegate.payOrder(order);
+    recordTransition(order, from);
+    return orderPaidEvent;
+  }
+
+  @Override
+  public void approveOrder(Order order) {
+    OrderStatus from = order.getOrderStatus();
+    delegate.approveOrder(order);
+    RestaurantId restaurantId = order.getrestaurantId();
+    OrderStatus to = order.getOrderStatus();
+    Money price = order.getPrice();
+    afterCommit(() -> {
+      restaurantOrderStatistics.recordTransition(restaurantId, from, to);
+      restaurantOrderStatistics.recordApproval(restaurantId, price);
+    });
+  }
+
+  @Override
+  public OrderCancelledEvent cancelOrderPayment(Order order, List<FailureReason> failureReasons) {
+    OrderStatus from = order.getOrderStatus();
+    OrderCancelledEvent orderCancelledEvent = delegate.cancelOrderPayment(order, failureReasons);
+    recordTransition(order, from);
+    return orderCancelledEvent;
+  }
+
+  @Override
+  public void cancelOrder(Order order, List<FailureReason> failureReasons) {
+    OrderStatus from = order.getOrderStatus();
+    delegate.cancelOrder(order, failureReasons);
+    recordTransition(order, from);
+  }
+
+  private void recordTransition(Order order, OrderStatus from) {
+    RestaurantId restaurantId = order.getrestaurantId();
+    OrderStatus to = order.getOrderStatus();
+    afterCommit(() -> restaurantOrderStatistics.recordTransition(restaurantId, from, to));
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+    } else {
+      action.run();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public final class OrderFixtures {
+  private static final int PRODUCTS_PER_RESTAURANT = 10;
+
+  private OrderFixtures() {
+  }
+
+  public static Restaurant restaurant(SplittableRandom random) {
+    List<Product> products = new ArrayList<>(PRODUCTS_PER_RESTAURANT);
+    for (int i = 0; i < PRODUCTS_PER_RESTAURANT; i++) {
+      products.add(new Product(new ProductId(uuid(random)), "product-" + i,
+          new Money(BigDecimal.valueOf(random.nextLong(100, 10_000), 2))));
+    }
+    return Restaurant.Builder.builder()
+        .restaurantId(new RestaurantId(uuid(random)))
+        .products(List.copyOf(products))
+        .active(true)
+        .build();
+  }
+
+  /**
+   * A new order as the application layer hands it over, with products carrying their ids only.
+   */
+  public static Order order(Restaurant restaurant, SplittableRandom random) {
+    List<Product> menu = restaurant.getProducts();
+    int itemCount = random.nextInt(1, 4);
+    List<OrderItem> items = new ArrayList<>(itemCount);
+    Money total = Money.ZERO;
+    for (int i = 0; i < itemCount; i++) {
+      Product product = menu.get(random.nextInt(menu.size()));
+      int quantity = random.nextInt(1, 4);
+      Money subTotal = product.getPrice().multiply(quantity);
+      items.add(OrderItem.Builder.builder()
+          .product(new Product(product.getId(), null, null))
+          .quantity(quantity)
+          .price(product.getPrice())
+          .subTotal(subTotal)
+          .build());
+      total = total.add(subTotal);
+    }
+    return Order.Builder.builder()
+        .customerId(new CustomerId(uuid(random)))
+        .restaurantId(restaurant.getId())
+        .deliveryAddress(new StreetAddress(uuid(random), "street", "1000AB", "city"))
+        .price(total)
+        .items(items)
+        .build();
+  }
+
+  private static UUID uuid(SplittableRandom random) {
+    return new UUID(random.nextLong(), random.nextLong());
+  }
+}
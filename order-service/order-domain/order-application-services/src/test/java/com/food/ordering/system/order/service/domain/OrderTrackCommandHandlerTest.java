@@ -0,0 +1,149 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.track.BatchTrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.BatchTrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderArchiveRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OrderTrackCommandHandlerTest {
+  private final SplittableRandom random = new SplittableRandom(5);
+  private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+  private final OrderRepository orderRepository = mock(OrderRepository.class);
+  private final OrderArchiveRepository orderArchiveRepository = mock(OrderArchiveRepository.class);
+  private final OrderTrackCommandHandler handler =
+      new OrderTrackCommandHandler(new OrderDataMapper(), orderRepository, orderArchiveRepository);
+
+  @Test
+  void answersEveryRequestedIdInRequestOrder() {
+    Order pending = order();
+    Order paid = order();
+    orderDomainService.payOrder(paid);
+    Order archived = order();
+    orderDomainService.payOrder(archived);
+    orderDomainService.approveOrder(archived);
+    UUID missing = UUID.randomUUID();
+    List<Set<TrackingId>> tableLookups = new ArrayList<>();
+    List<Set<TrackingId>> archiveLookups = new ArrayList<>();
+    when(orderRepository.findByTrackingIdIn(any())).thenAnswer(answerFrom(List.of(paid, pending), tableLookups));
+    when(orderArchiveRepository.findByTrackingIdIn(any())).thenAnswer(answerFrom(List.of(archived), archiveLookups));
+
+    BatchTrackOrderResponse response = handler.trackOrders(query(
+        trackingId(archived), missing, trackingId(pending), trackingId(archived), trackingId(paid), missing));
+
+    assertThat(response.getResults())
+        .extracting(BatchTrackOrderResponse.TrackOrderResult::getOrderTrackingId)
+        .containsExactly(trackingId(archived), missing, trackingId(pending), trackingId(archived), trackingId(paid), missing);
+    assertThat(response.getResults())
+        .extracting(BatchTrackOrderResponse.TrackOrderResult::isFound)
+        .containsExactly(true, false, true, true, true, false);
+    assertThat(response.getResults())
+        .extracting(result -> result.getOrder() == null ? null : result.getOrder().getOrderStatus())
+        .containsExactly(OrderStatus.APPROVED, null, OrderStatus.PENDING, OrderStatus.APPROVED, OrderStatus.PAID, null);
+    assertThat(response.getResults().get(0).getOrder().getOrderTrackingId()).isEqualTo(trackingId(archived));
+    assertThat(tableLookups).containsExactly(Set.of(archived.getTrackingId(), new TrackingId(missing),
+        pending.getTrackingId(), paid.getTrackingId()));
+    assertThat(archiveLookups).containsExactly(Set.of(archived.getTrackingId(), new TrackingId(missing)));
+  }
+
+  @Test
+  void skipsTheArchiveWhenTheOrderTablesHaveEveryOrder() {
+    Order first = order();
+    Order second = order();
+    when(orderRepository.findByTrackingIdIn(any())).thenAnswer(answerFrom(List.of(first, second), new ArrayList<>()));
+
+    BatchTrackOrderResponse response = handler.trackOrders(query(trackingId(second), trackingId(first)));
+
+    assertThat(response.getResults()).extracting(BatchTrackOrderResponse.TrackOrderResult::isFound)
+        .containsExactly(true, true);
+    verify(orderArchiveRepository, never()).findByTrackingIdIn(any());
+  }
+
+  @Test
+  void rejectsMoreTrackingIdsThanTheBound() {
+    List<UUID> trackingIds = new ArrayList<>();
+    for (int i = 0; i <= BatchTrackOrderQuery.MAX_TRACKING_IDS; i++) {
+      trackingIds.add(UUID.randomUUID());
+    }
+
+    assertThatThrownBy(() -> handler.trackOrders(new BatchTrackOrderQuery(trackingIds)))
+        .isInstanceOf(OrderDomainException.class)
+        .hasMessageContaining("At most 500");
+    verifyNoInteractions(orderRepository, orderArchiveRepository);
+
+    when(orderRepository.findByTrackingIdIn(any())).thenReturn(List.of());
+    when(orderArchiveRepository.findByTrackingIdIn(any())).thenReturn(List.of());
+    List<UUID> bound = trackingIds.subList(0, BatchTrackOrderQuery.MAX_TRACKING_IDS);
+    assertThat(handler.trackOrders(new BatchTrackOrderQuery(bound)).getResults()).hasSize(500);
+  }
+
+  @Test
+  void queryValidationEnforcesTheSizeBound() {
+    List<UUID> trackingIds = new ArrayList<>();
+    for (int i = 0; i < BatchTrackOrderQuery.MAX_TRACKING_IDS; i++) {
+      trackingIds.add(UUID.randomUUID());
+    }
+    try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+      Validator validator = factory.getValidator();
+
+      assertThat(validator.validate(new BatchTrackOrderQuery(trackingIds))).isEmpty();
+      trackingIds.add(UUID.randomUUID());
+      assertThat(validator.validate(new BatchTrackOrderQuery(trackingIds))).hasSize(1);
+      assertThat(validator.validate(new BatchTrackOrderQuery(List.of()))).hasSize(1);
+      assertThat(validator.validate(new BatchTrackOrderQuery(null))).hasSize(1);
+    }
+  }
+
+  /**
+   * Answers a batch lookup with those of {@code stored} that were asked for, and records a copy of
+   * each request because the handler keeps changing the collection it passes.
+   */
+  private static Answer<List<Order>> answerFrom(List<Order> stored, List<Set<TrackingId>> requests) {
+    return invocation -> {
+      Collection<TrackingId> trackingIds = invocation.getArgument(0);
+      requests.add(Set.copyOf(trackingIds));
+      return stored.stream().filter(order -> trackingIds.contains(order.getTrackingId())).toList();
+    };
+  }
+
+  private Order order() {
+    Restaurant restaurant = OrderFixtures.restaurant(random);
+    Order order = OrderFixtures.order(restaurant, random);
+    orderDomainService.validateAndInitiateOrder(order, restaurant);
+    return order;
+  }
+
+  private static UUID trackingId(Order order) {
+    return order.getTrackingId().getValue();
+  }
+
+  private static BatchTrackOrderQuery query(UUID... trackingIds) {
+    return new BatchTrackOrderQuery(List.of(trackingIds));
+  }
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.order.service.domain;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Runs transaction synchronizations without a resource behind them, so tests can see what the
+ * order services do on commit and on rollback.
+ */
+public final class ResourcelessTransactionManager extends AbstractPlatformTransactionManager {
+
+  @Override
+  protected Object doGetTransaction() {
+    return new Object();
+  }
+
+  @Override
+  protected void doBegin(Object transaction, TransactionDefinition definition) {
+  }
+
+  @Override
+  protected void doCommit(DefaultTransactionStatus status) {
+  }
+
+  @Override
+  protected void doRollback(DefaultTransactionStatus status) {
+  }
+}
@@ -0,0 +1,129 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.OrderFixtures;
+import com.food.ordering.system.order.service.domain.ResourcelessTransactionManager;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlledOrderDomainServiceTest {
+  private static final List<FailureReason> REJECTION = List.of(FailureReason.of(FailureCode.RESTAURANT_REJECTED));
+
+  private final RestaurantAdmissionController admissionController = new RestaurantAdmissionController(
+      AdmissionPolicy.builder()
+          .permitsPerSecond(1_000)
+          .burst(100)
+          .maxInFlight(2)
+          .inFlightRetryAfter(Duration.ofMillis(100))
+          .build(), () -> 0L);
+  private final AdmissionControlledOrderDomainService orderDomainService =
+      new AdmissionControlledOrderDomainService(new OrderDomainServiceImpl(), admissionController);
+  private final TransactionTemplate transactionTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+  private final SplittableRandom random = new SplittableRandom(13);
+  private final Restaurant restaurant = OrderFixtures.restaurant(random);
+
+  @Test
+  void holdsThePermitUntilTheOrderIsApproved() {
+    Order order = create();
+    orderDomainService.payOrder(order);
+
+    assertThat(inFlight()).isEqualTo(1);
+    orderDomainService.approveOrder(order);
+    assertThat(inFlight()).isZero();
+  }
+
+  @Test
+  void releasesThePermitWhenTheOrderIsCancelled() {
+    Order order = create();
+    orderDomainService.payOrder(order);
+    orderDomainService.cancelOrderPayment(order, REJECTION);
+
+    assertThat(inFlight()).isEqualTo(1);
+    orderDomainService.cancelOrder(order, null);
+    assertThat(inFlight()).isZero();
+  }
+
+  @Test
+  void capsOrdersInFlightAcrossCreations() {
+    Order first = create();
+    create();
+
+    assertThatThrownBy(this::create).isInstanceOf(OrderAdmissionRejectedException.class);
+    orderDomainService.cancelOrder(first, REJECTION);
+    create();
+    assertThat(inFlight()).isEqualTo(2);
+  }
+
+  @Test
+  void releasesThePermitWhenTheCreatingTransactionRollsBack() {
+    transactionTemplate.executeWithoutResult(status -> {
+      orderDomainService.validateAndInitiateOrder(OrderFixtures.order(restaurant, random), restaurant);
+      assertThat(inFlight()).isEqualTo(1);
+      status.setRollbackOnly();
+    });
+
+    assertThat(inFlight()).isZero();
+  }
+
+  @Test
+  void keepsThePermitWhenTheCreatingTransactionCommits() {
+    Order order = transactionTemplate.execute(status -> {
+      Order created = OrderFixtures.order(restaurant, random);
+      orderDomainService.validateAndInitiateOrder(created, restaurant);
+      return created;
+    });
+
+    assertThat(inFlight()).isEqualTo(1);
+    orderDomainService.cancelOrder(order, REJECTION);
+    assertThat(inFlight()).isZero();
+  }
+
+  @Test
+  void releasesThePermitOfAnOrderThatFailsValidation() {
+    Order order = OrderFixtures.order(restaurant, random);
+    Order invalid = Order.Builder.builder()
+        .customerId(order.getCustomerId())
+        .restaurantId(order.getrestaurantId())
+        .deliveryAddress(order.getDeliveryAddress())
+        .price(order.getPrice().add(order.getPrice()))
+        .items(order.getItems())
+        .build();
+
+    assertThatThrownBy(() -> orderDomainService.validateAndInitiateOrder(invalid, restaurant))
+        .isInstanceOf(OrderDomainException.class);
+    assertThat(inFlight()).isZero();
+  }
+
+  @Test
+  void ignoresOrdersWithoutAPermit() {
+    create();
+    Order createdBeforeRestart = OrderFixtures.order(restaurant, random);
+    new OrderDomainServiceImpl().validateAndInitiateOrder(createdBeforeRestart, restaurant);
+
+    orderDomainService.cancelOrder(createdBeforeRestart, REJECTION);
+
+    assertThat(inFlight()).isEqualTo(1);
+  }
+
+  private Order create() {
+    Order order = OrderFixtures.order(restaurant, random);
+    orderDomainService.validateAndInitiateOrder(order, restaurant);
+    return order;
+  }
+
+  private int inFlight() {
+    return admissionController.getInFlight(restaurant.getId());
+  }
+}
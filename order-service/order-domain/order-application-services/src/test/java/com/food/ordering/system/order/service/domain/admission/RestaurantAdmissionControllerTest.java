@@ -0,0 +1,169 @@
+package com.food.ordering.system.order.service.domain.admission;
+
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestaurantAdmissionControllerTest {
+  private static final long INTERVAL_NANOS = Duration.ofMillis(100).toNanos();
+  private static final Duration IN_FLIGHT_RETRY_AFTER = Duration.ofMillis(250);
+
+  private final AtomicLong nanoClock = new AtomicLong(1_000_000_000L);
+  private final RestaurantId restaurantId = new RestaurantId(UUID.randomUUID());
+
+  @Test
+  void admitsTheBurstAtOnceAndThenOnePermitPerInterval() {
+    RestaurantAdmissionController controller = controller(policy(10, 5, 1_000));
+
+    for (int i = 0; i < 5; i++) {
+      controller.admit(restaurantId);
+    }
+    assertRateRejected(controller, Duration.ofNanos(INTERVAL_NANOS));
+
+    nanoClock.addAndGet(INTERVAL_NANOS - 1);
+    assertRateRejected(controller, Duration.ofNanos(1));
+
+    nanoClock.addAndGet(1);
+    controller.admit(restaurantId);
+    assertRateRejected(controller, Duration.ofNanos(INTERVAL_NANOS));
+  }
+
+  @Test
+  void idleTimeRefillsNoMoreThanTheBurst() {
+    RestaurantAdmissionController controller = controller(policy(10, 5, 1_000));
+    controller.admit(restaurantId);
+
+    nanoClock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+    for (int i = 0; i < 5; i++) {
+      controller.admit(restaurantId);
+    }
+    assertRateRejected(controller, Duration.ofNanos(INTERVAL_NANOS));
+  }
+
+  @Test
+  void rateRejectionHoldsNoInFlightSlot() {
+    RestaurantAdmissionController controller = controller(policy(10, 1, 1_000));
+    controller.admit(restaurantId);
+
+    assertRateRejected(controller, Duration.ofNanos(INTERVAL_NANOS));
+    assertThat(controller.getInFlight(restaurantId)).isEqualTo(1);
+  }
+
+  @Test
+  void capsOrdersInFlightUntilAPermitIsClosed() {
+    RestaurantAdmissionController controller = controller(policy(1_000, 100, 2));
+    AdmissionPermit first = controller.admit(restaurantId);
+    controller.admit(restaurantId);
+
+    assertInFlightRejected(controller);
+
+    first.close();
+    first.close();
+    assertThat(controller.getInFlight(restaurantId)).isEqualTo(1);
+    controller.admit(restaurantId);
+    assertInFlightRejected(controller);
+  }
+
+  @Test
+  void limitsRestaurantsIndependently() {
+    RestaurantAdmissionController controller = controller(policy(1_000, 100, 1));
+    RestaurantId otherRestaurantId = new RestaurantId(UUID.randomUUID());
+    controller.admit(restaurantId);
+
+    controller.admit(otherRestaurantId);
+
+    assertThat(controller.getInFlight(restaurantId)).isEqualTo(1);
+    assertThat(controller.getInFlight(otherRestaurantId)).isEqualTo(1);
+  }
+
+  @Test
+  void updatedPolicyKeepsCountingPermitsAlreadyInFlight() {
+    RestaurantAdmissionController controller = controller(policy(1_000, 100, 3));
+    List<AdmissionPermit> permits = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      permits.add(controller.admit(restaurantId));
+    }
+
+    controller.updatePolicy(restaurantId, policy(1_000, 100, 2));
+
+    assertThat(controller.getInFlight(restaurantId)).isEqualTo(3);
+    permits.get(0).close();
+    assertInFlightRejected(controller);
+    permits.get(1).close();
+    controller.admit(restaurantId);
+    assertThat(controller.getInFlight(restaurantId)).isEqualTo(2);
+  }
+
+  @Test
+  void updatedPolicyChangesTheRate() {
+    RestaurantAdmissionController controller = controller(policy(10, 1, 1_000));
+    controller.admit(restaurantId);
+    assertRateRejected(controller, Duration.ofNanos(INTERVAL_NANOS));
+
+    controller.updatePolicy(restaurantId, policy(10, 3, 1_000));
+
+    controller.admit(restaurantId);
+    controller.admit(restaurantId);
+    assertRateRejected(controller, Duration.ofNanos(INTERVAL_NANOS));
+  }
+
+  @Test
+  void policyOfAnUnseenRestaurantReplacesTheDefault() {
+    RestaurantAdmissionController controller = controller(policy(1_000, 100, 100));
+
+    controller.updatePolicy(restaurantId, policy(1_000, 100, 1));
+
+    controller.admit(restaurantId);
+    assertInFlightRejected(controller);
+  }
+
+  @Test
+  void rejectsPolicyWithoutLimits() {
+    RestaurantAdmissionController controller = controller(policy(1_000, 100, 1));
+
+    assertThatThrownBy(() -> controller.updatePolicy(restaurantId, policy(1_000, 100, 0)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> controller.updatePolicy(restaurantId, policy(0, 100, 1)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private RestaurantAdmissionController controller(AdmissionPolicy policy) {
+    return new RestaurantAdmissionController(policy, nanoClock::get);
+  }
+
+  private void assertRateRejected(RestaurantAdmissionController controller, Duration retryAfter) {
+    assertThatThrownBy(() -> controller.admit(restaurantId))
+        .isInstanceOf(OrderAdmissionRejectedException.class)
+        .hasMessageStartingWith("Order rate limit exceeded")
+        .extracting(e -> ((OrderAdmissionRejectedException) e).getRetryAfter())
+        .isEqualTo(retryAfter);
+  }
+
+  private void assertInFlightRejected(RestaurantAdmissionController controller) {
+    int inFlight = controller.getInFlight(restaurantId);
+    assertThatThrownBy(() -> controller.admit(restaurantId))
+        .isInstanceOf(OrderAdmissionRejectedException.class)
+        .hasMessageStartingWith("Too many orders in flight")
+        .extracting(e -> ((OrderAdmissionRejectedException) e).getRetryAfter())
+        .isEqualTo(IN_FLIGHT_RETRY_AFTER);
+    assertThat(controller.getInFlight(restaurantId)).isEqualTo(inFlight);
+  }
+
+  private static AdmissionPolicy policy(double permitsPerSecond, int burst, int maxInFlight) {
+    return AdmissionPolicy.builder()
+        .permitsPerSecond(permitsPerSecond)
+        .burst(burst)
+        .maxInFlight(maxInFlight)
+        .inFlightRetryAfter(IN_FLIGHT_RETRY_AFTER)
+        .build();
+  }
+}
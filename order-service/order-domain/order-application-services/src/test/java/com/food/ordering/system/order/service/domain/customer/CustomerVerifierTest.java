@@ -0,0 +1,133 @@
+package com.food.ordering.system.order.service.domain.customer;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+class CustomerVerifierTest {
+  private static final long TIMEOUT_SECONDS = 10;
+
+  private final InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+  private final CustomerVerifier customerVerifier = new CustomerVerifier(customerRepository, 1_000, 0.01, 100);
+
+  @Test
+  void rejectsUnknownCustomerWithoutDatabaseLookup() {
+    customerRepository.commit(UUID.randomUUID());
+    customerVerifier.rebuild();
+
+    assertThat(customerVerifier.exists(new CustomerId(UUID.randomUUID()))).isFalse();
+    assertThat(customerVerifier.getRejectedByFilter()).isEqualTo(1);
+    assertThat(customerVerifier.getDatabaseLookups()).isZero();
+  }
+
+  @Test
+  void acceptsCustomersLoadedByRebuildAndRegisteredAfterIt() {
+    UUID loaded = customerRepository.commit(UUID.randomUUID());
+    customerVerifier.rebuild();
+    UUID registered = customerRepository.commit(UUID.randomUUID());
+    customerVerifier.registerCustomer(new CustomerId(registered));
+
+    assertThat(customerVerifier.exists(new CustomerId(loaded))).isTrue();
+    assertThat(customerVerifier.exists(new CustomerId(registered))).isTrue();
+  }
+
+  /**
+   * A customer committed after the rebuild scan went past it, whose registration reads the old
+   * filter before the swap and finishes after it, must still be in the filter that is swapped in.
+   */
+  @Test
+  void keepsRegistrationThatRacesTheEndOfRebuild() throws Exception {
+    customerRepository.commit(UUID.randomUUID());
+    UUID lateCustomer = UUID.randomUUID();
+    CountDownLatch scanStarted = new CountDownLatch(1);
+    CountDownLatch finishScan = new CountDownLatch(1);
+    CountDownLatch addingToOldFilter = new CountDownLatch(1);
+    CountDownLatch rebuildFinished = new CountDownLatch(1);
+    customerRepository.duringScan = () -> {
+      scanStarted.countDown();
+      await(finishScan);
+    };
+    CustomerBloomFilter oldFilter = spy((CustomerBloomFilter) ReflectionTestUtils.getField(customerVerifier, "filter"));
+    doAnswer(invocation -> {
+      if (lateCustomer.equals(invocation.getArgument(0))) {
+        addingToOldFilter.countDown();
+        await(rebuildFinished);
+      }
+      return invocation.callRealMethod();
+    }).when(oldFilter).add(any(UUID.class));
+    ReflectionTestUtils.setField(customerVerifier, "filter", oldFilter);
+
+    Thread rebuild = new Thread(customerVerifier::rebuild);
+    rebuild.start();
+    await(scanStarted);
+    customerRepository.commit(lateCustomer);
+    Thread registration = new Thread(() -> customerVerifier.registerCustomer(new CustomerId(lateCustomer)));
+    registration.start();
+    await(addingToOldFilter);
+    finishScan.countDown();
+    rebuild.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+    rebuildFinished.countDown();
+    registration.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+    assertThat(rebuild.isAlive() || registration.isAlive()).isFalse();
+    assertThat(ReflectionTestUtils.getField(customerVerifier, "filter")).isNotSameAs(oldFilter);
+    assertThat(customerVerifier.exists(new CustomerId(lateCustomer))).isTrue();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class InMemoryCustomerRepository implements CustomerRepository {
+    private final Set<UUID> customers = ConcurrentHashMap.newKeySet();
+    private volatile Runnable duringScan = () -> {
+    };
+
+    UUID commit(UUID customerId) {
+      customers.add(customerId);
+      return customerId;
+    }
+
+    @Override
+    public Optional<Customer> findCustomer(UUID customerId) {
+      return customers.contains(customerId) ? Optional.of(new Customer(new CustomerId(customerId))) : Optional.empty();
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+      customers.add(customer.getId().getValue());
+      return customer;
+    }
+
+    /**
+     * Scans the customers committed when the scan starts, as a cursor that has gone past them would.
+     */
+    @Override
+    public void forEachCustomerId(Consumer<UUID> consumer) {
+      List<UUID> scanned = List.copyOf(customers);
+      duringScan.run();
+      scanned.forEach(consumer);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.food.ordering.system.order.service.domain.expiry;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.OrderFixtures;
+import com.food.ordering.system.order.service.domain.ResourcelessTransactionManager;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringOrderDomainServiceTest {
+  private static final long PENDING_TICKS = 10;
+  private static final long PAID_TICKS = 20;
+  private static final List<FailureReason> REJECTION = List.of(FailureReason.of(FailureCode.RESTAURANT_REJECTED));
+
+  private final OrderExpiryScheduler scheduler = new OrderExpiryScheduler(OrderExpiryPolicy.builder()
+      .pendingTimeout(Duration.ofMillis(PENDING_TICKS))
+      .paidTimeout(Duration.ofMillis(PAID_TICKS))
+      .cancellingTimeout(Duration.ofMillis(PAID_TICKS))
+      .tick(Duration.ofMillis(1))
+      .batchSize(100)
+      .build(), () -> 0L);
+  private final ExpiringOrderDomainService orderDomainService =
+      new ExpiringOrderDomainService(new OrderDomainServiceImpl(), scheduler);
+  private final TransactionTemplate transactionTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+  private final SplittableRandom random = new SplittableRandom(7);
+  private Restaurant restaurant;
+  private Order order;
+
+  @BeforeEach
+  void createOrder() {
+    restaurant = OrderFixtures.restaurant(random);
+    order = OrderFixtures.order(restaurant, random);
+    commit(order -> orderDomainService.validateAndInitiateOrder(order, restaurant));
+  }
+
+  @Test
+  void deadlineChangesWhenTheTransitionCommits() {
+    commit(orderDomainService::payOrder);
+
+    scheduler.advance(PENDING_TICKS);
+    assertThat(scheduler.pollExpired(10)).isEmpty();
+    scheduler.advance(PAID_TICKS);
+    assertThat(scheduler.pollExpired(10)).containsExactly(new ExpiringOrder(order.getTrackingId(), OrderStatus.PAID));
+  }
+
+  @Test
+  void rolledBackPaymentKeepsThePendingDeadline() {
+    rollBack(orderDomainService::payOrder);
+
+    scheduler.advance(PENDING_TICKS);
+    assertThat(scheduler.pollExpired(10))
+        .containsExactly(new ExpiringOrder(order.getTrackingId(), OrderStatus.PENDING));
+  }
+
+  @Test
+  void rolledBackApprovalKeepsThePaidDeadline() {
+    commit(orderDomainService::payOrder);
+    rollBack(orderDomainService::approveOrder);
+
+    scheduler.advance(PAID_TICKS);
+    assertThat(scheduler.pollExpired(10)).containsExactly(new ExpiringOrder(order.getTrackingId(), OrderStatus.PAID));
+  }
+
+  @Test
+  void rolledBackCancellationKeepsThePendingDeadline() {
+    rollBack(order -> orderDomainService.cancelOrder(order, REJECTION));
+
+    scheduler.advance(PENDING_TICKS);
+    assertThat(scheduler.pollExpired(10))
+        .containsExactly(new ExpiringOrder(order.getTrackingId(), OrderStatus.PENDING));
+  }
+
+  @Test
+  void rolledBackCreationRegistersNoDeadline() {
+    Order rolledBack = OrderFixtures.order(restaurant, random);
+    transactionTemplate.executeWithoutResult(status -> {
+      orderDomainService.validateAndInitiateOrder(rolledBack, restaurant);
+      status.setRollbackOnly();
+    });
+
+    assertThat(scheduler.getScheduledCount()).isEqualTo(1);
+  }
+
+  @Test
+  void committedApprovalDropsTheDeadline() {
+    commit(orderDomainService::payOrder);
+    commit(orderDomainService::approveOrder);
+
+    scheduler.advance(PAID_TICKS * 10);
+    assertThat(scheduler.pollExpired(10)).isEmpty();
+    assertThat(scheduler.getScheduledCount()).isZero();
+  }
+
+  private void commit(Consumer<Order> transition) {
+    transactionTemplate.executeWithoutResult(status -> transition.accept(order));
+  }
+
+  private void rollBack(Consumer<Order> transition) {
+    transactionTemplate.executeWithoutResult(status -> {
+      transition.accept(order);
+      status.setRollbackOnly();
+    });
+  }
+}
@@ -0,0 +1,116 @@
+package com.food.ordering.system.order.service.domain.expiry;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.OrderFixtures;
+import com.food.ordering.system.order.service.domain.ResourcelessTransactionManager;
+import com.food.ordering.system.order.service.domain.admission.AdmissionControlledOrderDomainService;
+import com.food.ordering.system.order.service.domain.admission.AdmissionPolicy;
+import com.food.ordering.system.order.service.domain.admission.RestaurantAdmissionController;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Expiry through the decorator chain the order service runs with, where it is what frees the
+ * admission permits of sagas whose responses never arrive.
+ */
+class OrderExpiryHandlerTest {
+  private static final long PENDING_TICKS = 10;
+  private static final long PAID_TICKS = 20;
+  private static final long CANCELLING_TICKS = 30;
+
+  private final OrderExpiryPolicy expiryPolicy = OrderExpiryPolicy.builder()
+      .pendingTimeout(Duration.ofMillis(PENDING_TICKS))
+      .paidTimeout(Duration.ofMillis(PAID_TICKS))
+      .cancellingTimeout(Duration.ofMillis(CANCELLING_TICKS))
+      .tick(Duration.ofMillis(1))
+      .batchSize(100)
+      .build();
+  private final OrderExpiryScheduler scheduler = new OrderExpiryScheduler(expiryPolicy, () -> 0L);
+  private final RestaurantAdmissionController admissionController =
+      new RestaurantAdmissionController(AdmissionPolicy.DEFAULT);
+  private final OrderDomainService orderDomainService = new AdmissionControlledOrderDomainService(
+      new ExpiringOrderDomainService(new OrderDomainServiceImpl(), scheduler), admissionController);
+  private final OrderRepository orderRepository = mock(OrderRepository.class);
+  private final TransactionTemplate transactionTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+  private final OrderExpiryHandler expiryHandler =
+      new OrderExpiryHandler(scheduler, expiryPolicy, orderDomainService, orderRepository, transactionTemplate);
+  private final SplittableRandom random = new SplittableRandom(17);
+  private final Restaurant restaurant = OrderFixtures.restaurant(random);
+  private Order order;
+
+  @BeforeEach
+  void createOrder() {
+    order = OrderFixtures.order(restaurant, random);
+    transactionTemplate.executeWithoutResult(status -> orderDomainService.validateAndInitiateOrder(order, restaurant));
+    when(orderRepository.findByTrackingIdIn(any())).thenAnswer(invocation -> {
+      Collection<TrackingId> trackingIds = invocation.getArgument(0);
+      return trackingIds.contains(order.getTrackingId()) ? List.of(order) : List.of();
+    });
+  }
+
+  @Test
+  void expiredPendingOrderReleasesItsAdmissionPermit() {
+    assertThat(inFlight()).isEqualTo(1);
+
+    scheduler.advance(PENDING_TICKS);
+    expiryHandler.expireOrders();
+
+    assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
+    assertThat(order.getFailureReasons()).extracting(FailureReason::getCode)
+        .containsExactly(FailureCode.PAYMENT_TIMEOUT);
+    assertThat(inFlight()).isZero();
+  }
+
+  @Test
+  void expiredPaidOrderKeepsItsPermitUntilTheCancellationExpires() {
+    transactionTemplate.executeWithoutResult(status -> orderDomainService.payOrder(order));
+
+    scheduler.advance(PAID_TICKS);
+    expiryHandler.expireOrders();
+
+    assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.CANCELLING);
+    assertThat(inFlight()).isEqualTo(1);
+
+    scheduler.advance(PAID_TICKS + CANCELLING_TICKS);
+    expiryHandler.expireOrders();
+
+    assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
+    assertThat(inFlight()).isZero();
+    assertThat(scheduler.getScheduledCount()).isZero();
+  }
+
+  @Test
+  void orderThatMovedOnIsNotExpired() {
+    transactionTemplate.executeWithoutResult(status -> orderDomainService.payOrder(order));
+    transactionTemplate.executeWithoutResult(status -> orderDomainService.approveOrder(order));
+
+    scheduler.advance(PAID_TICKS * 10);
+    expiryHandler.expireOrders();
+
+    assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.APPROVED);
+    assertThat(inFlight()).isZero();
+  }
+
+  private int inFlight() {
+    return admissionController.getInFlight(restaurant.getId());
+  }
+}
@@ -0,0 +1,116 @@
+package com.food.ordering.system.order.service.domain.expiry;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderExpirySchedulerTest {
+  private static final long TICK_NANOS = Duration.ofMillis(1).toNanos();
+  private static final long PENDING_TICKS = 10;
+  private static final long PAID_TICKS = 20;
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final OrderExpiryScheduler scheduler = scheduler(PENDING_TICKS);
+
+  /**
+   * Deadlines that land on, just before and just after a level boundary of the wheel, scheduled
+   * with the wheel at the start and part way into a slot.
+   */
+  @ParameterizedTest(name = "{1} ticks from tick {0}")
+  @CsvSource({
+      "0, 1", "0, 255", "0, 256", "0, 257", "0, 65535", "0, 65536", "0, 65537", "0, 16777215", "0, 16777216",
+      "300, 1", "300, 255", "300, 256", "300, 257", "300, 65535", "300, 65536", "300, 65537", "300, 16777216"})
+  void firesOnItsDeadlineTickAndNotBefore(long startTick, long ticks) {
+    OrderExpiryScheduler scheduler = scheduler(ticks);
+    TrackingId trackingId = trackingId();
+    scheduler.advance(startTick);
+    nanos.set(startTick * TICK_NANOS);
+    scheduler.schedule(trackingId, OrderStatus.PENDING);
+
+    scheduler.advance(startTick + ticks - 1);
+    assertThat(scheduler.pollExpired(10)).isEmpty();
+
+    scheduler.advance(startTick + ticks);
+    assertThat(scheduler.pollExpired(10)).containsExactly(new ExpiringOrder(trackingId, OrderStatus.PENDING));
+    assertThat(scheduler.getScheduledCount()).isZero();
+  }
+
+  @Test
+  void replacedTimerNeverFiresWhetherOrNotTheWheelHasItYet() {
+    TrackingId queued = trackingId();
+    TrackingId inWheel = trackingId();
+    scheduler.schedule(queued, OrderStatus.PENDING);
+    scheduler.schedule(inWheel, OrderStatus.PENDING);
+    scheduler.advance(1);
+    scheduler.schedule(queued, OrderStatus.PENDING);
+    scheduler.schedule(queued, OrderStatus.PAID);
+    scheduler.schedule(inWheel, OrderStatus.PAID);
+
+    scheduler.advance(PAID_TICKS);
+    assertThat(scheduler.pollExpired(10)).containsExactlyInAnyOrder(
+        new ExpiringOrder(queued, OrderStatus.PAID), new ExpiringOrder(inWheel, OrderStatus.PAID));
+    scheduler.advance(PAID_TICKS * 100);
+    assertThat(scheduler.pollExpired(10)).isEmpty();
+  }
+
+  @Test
+  void cancelledTimerNeverFiresWhetherOrNotTheWheelHasItYet() {
+    TrackingId queued = trackingId();
+    TrackingId inWheel = trackingId();
+    scheduler.schedule(inWheel, OrderStatus.PENDING);
+    scheduler.advance(1);
+    scheduler.schedule(queued, OrderStatus.PENDING);
+    scheduler.cancel(queued);
+    scheduler.cancel(inWheel);
+
+    scheduler.advance(PENDING_TICKS * 100);
+    assertThat(scheduler.pollExpired(10)).isEmpty();
+    assertThat(scheduler.getScheduledCount()).isZero();
+  }
+
+  @Test
+  void timerScheduledAgainAfterCancelFires() {
+    TrackingId trackingId = trackingId();
+    scheduler.schedule(trackingId, OrderStatus.PENDING);
+    scheduler.cancel(trackingId);
+    scheduler.schedule(trackingId, OrderStatus.PAID);
+
+    scheduler.advance(PAID_TICKS - 1);
+    assertThat(scheduler.pollExpired(10)).isEmpty();
+    scheduler.advance(PAID_TICKS);
+    assertThat(scheduler.pollExpired(10)).containsExactly(new ExpiringOrder(trackingId, OrderStatus.PAID));
+  }
+
+  @Test
+  void statusWithoutResponseDropsTheDeadline() {
+    TrackingId trackingId = trackingId();
+    scheduler.schedule(trackingId, OrderStatus.PENDING);
+    scheduler.schedule(trackingId, OrderStatus.APPROVED);
+
+    scheduler.advance(PENDING_TICKS * 100);
+    assertThat(scheduler.pollExpired(10)).isEmpty();
+    assertThat(scheduler.getScheduledCount()).isZero();
+  }
+
+  private OrderExpiryScheduler scheduler(long pendingTicks) {
+    return new OrderExpiryScheduler(OrderExpiryPolicy.builder()
+        .pendingTimeout(Duration.ofNanos(pendingTicks * TICK_NANOS))
+        .paidTimeout(Duration.ofNanos(PAID_TICKS * TICK_NANOS))
+        .cancellingTimeout(Duration.ofNanos(PAID_TICKS * TICK_NANOS))
+        .tick(Duration.ofNanos(TICK_NANOS))
+        .batchSize(100)
+        .build(), nanos::get);
+  }
+
+  private static TrackingId trackingId() {
+    return new TrackingId(UUID.randomUUID());
+  }
+}
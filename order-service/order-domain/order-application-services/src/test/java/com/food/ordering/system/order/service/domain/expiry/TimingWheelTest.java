@@ -0,0 +1,76 @@
+package com.food.ordering.system.order.service.domain.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+  @Test
+  void expiresEveryTimerOnItsOwnTickWhenAdvancedOneTickAtATime() {
+    TimingWheel<Long> wheel = new TimingWheel<>(0);
+    long[] delays = {1, 2, 255, 256, 257, 511, 512, 4_096, 65_535, 65_536, 65_537, 70_000};
+    Map<TimingWheel.Timer<Long>, Long> deadlines = new HashMap<>();
+    Map<TimingWheel.Timer<Long>, Long> expiredAt = new HashMap<>();
+    Consumer<TimingWheel.Timer<Long>> expired =
+        timer -> assertThat(expiredAt.put(timer, wheel.getCurrentTick())).isNull();
+    long lastDeadline = 0;
+    for (long addedAt : new long[]{0, 1, 300}) {
+      advanceOneTickAtATime(wheel, addedAt, expired);
+      for (long delay : delays) {
+        TimingWheel.Timer<Long> timer = new TimingWheel.Timer<>(addedAt + delay, addedAt + delay);
+        wheel.add(timer);
+        deadlines.put(timer, addedAt + delay);
+        lastDeadline = Math.max(lastDeadline, addedAt + delay);
+      }
+    }
+
+    advanceOneTickAtATime(wheel, lastDeadline, expired);
+    assertThat(expiredAt).isEqualTo(deadlines);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void timerPastItsDeadlineExpiresOnTheNextTick() {
+    TimingWheel<String> wheel = new TimingWheel<>(0);
+    wheel.advanceTo(1_000, timer -> {
+    });
+    List<String> expired = new ArrayList<>();
+    wheel.add(new TimingWheel.Timer<>("late", 10));
+
+    wheel.advanceTo(1_001, timer -> expired.add(timer.payload));
+    assertThat(expired).containsExactly("late");
+  }
+
+  @Test
+  void removedTimerNeverExpires() {
+    TimingWheel<String> wheel = new TimingWheel<>(0);
+    TimingWheel.Timer<String> nearTimer = new TimingWheel.Timer<>("near", 5);
+    TimingWheel.Timer<String> farTimer = new TimingWheel.Timer<>("far", 70_000);
+    TimingWheel.Timer<String> keptTimer = new TimingWheel.Timer<>("kept", 70_000);
+    wheel.add(nearTimer);
+    wheel.add(farTimer);
+    wheel.add(keptTimer);
+    wheel.remove(nearTimer);
+    wheel.remove(farTimer);
+    wheel.remove(farTimer);
+    List<String> expired = new ArrayList<>();
+
+    wheel.advanceTo(80_000, timer -> expired.add(timer.payload));
+    assertThat(expired).containsExactly("kept");
+    assertThat(wheel.size()).isZero();
+  }
+
+  private static <T> void advanceOneTickAtATime(TimingWheel<T> wheel, long tick,
+                                                Consumer<TimingWheel.Timer<T>> expired) {
+    while (wheel.getCurrentTick() < tick) {
+      wheel.advanceTo(wheel.getCurrentTick() + 1, expired);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.food.ordering.system.order.service.domain.statistics;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantCountersTest {
+  private static final int WINDOW_COUNT = 3;
+
+  private final RestaurantCounters counters = new RestaurantCounters(WINDOW_COUNT);
+
+  @Test
+  void newerMinuteReplacesTheWindowInItsSlot() {
+    counters.transition(null, OrderStatus.PENDING, 0);
+    counters.transition(null, OrderStatus.PENDING, 1);
+    counters.transition(null, OrderStatus.PENDING, WINDOW_COUNT);
+
+    assertThat(counters.windowAt(0)).isNull();
+    assertThat(transitions(WINDOW_COUNT, OrderStatus.PENDING)).isEqualTo(1);
+    assertThat(transitions(1, OrderStatus.PENDING)).isEqualTo(1);
+    assertThat(counters.ordersInStatus(OrderStatus.PENDING)).isEqualTo(3);
+  }
+
+  @Test
+  void staleMinuteCountsInTheTotalsButNeverInANewerWindow() {
+    counters.transition(null, OrderStatus.PENDING, 2 * WINDOW_COUNT);
+    counters.addApprovedRevenue(500, 2 * WINDOW_COUNT);
+    counters.transition(null, OrderStatus.PENDING, WINDOW_COUNT);
+    counters.addApprovedRevenue(700, WINDOW_COUNT);
+
+    assertThat(counters.windowAt(WINDOW_COUNT)).isNull();
+    assertThat(transitions(2 * WINDOW_COUNT, OrderStatus.PENDING)).isEqualTo(1);
+    assertThat(counters.windowAt(2 * WINDOW_COUNT).approvedRevenue.sum()).isEqualTo(500);
+    assertThat(counters.ordersInStatus(OrderStatus.PENDING)).isEqualTo(2);
+    assertThat(counters.approvedRevenue()).isEqualTo(1_200);
+  }
+
+  @Test
+  void transitionsMoveOrdersBetweenStatuses() {
+    counters.addOrdersInStatus(OrderStatus.PAID, 4);
+    counters.transition(null, OrderStatus.PENDING, 0);
+    counters.transition(OrderStatus.PENDING, OrderStatus.PAID, 0);
+    counters.transition(OrderStatus.PAID, OrderStatus.APPROVED, 0);
+
+    assertThat(counters.ordersInStatus(OrderStatus.PENDING)).isZero();
+    assertThat(counters.ordersInStatus(OrderStatus.PAID)).isEqualTo(4);
+    assertThat(counters.ordersInStatus(OrderStatus.APPROVED)).isEqualTo(1);
+  }
+
+  /**
+   * Threads recording into minutes that roll the ring over concurrently lose no count: every
+   * window holds exactly the transitions of its minute.
+   */
+  @Test
+  void concurrentTransitionsAddUpWhileWindowsRollOver() throws InterruptedException {
+    int threads = 8;
+    int minutes = WINDOW_COUNT;
+    int perThreadAndMinute = 20_000;
+    RestaurantCounters rolling = new RestaurantCounters(minutes);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> workers = new ArrayList<>(threads);
+    for (int t = 0; t < threads; t++) {
+      Thread worker = new Thread(() -> {
+        await(start);
+        for (int i = 0; i < perThreadAndMinute; i++) {
+          for (int minute = 0; minute < minutes; minute++) {
+            rolling.transition(null, OrderStatus.PENDING, 100 + minute);
+          }
+        }
+      });
+      worker.start();
+      workers.add(worker);
+    }
+    start.countDown();
+    for (Thread worker : workers) {
+      worker.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    assertThat(rolling.ordersInStatus(OrderStatus.PENDING)).isEqualTo((long) threads * minutes * perThreadAndMinute);
+    for (int minute = 0; minute < minutes; minute++) {
+      assertThat(rolling.windowAt(100 + minute).transitions[OrderStatus.PENDING.ordinal()].sum())
+          .isEqualTo((long) threads * perThreadAndMinute);
+    }
+  }
+
+  private long transitions(long minute, OrderStatus orderStatus) {
+    return counters.windowAt(minute).transitions[orderStatus.ordinal()].sum();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
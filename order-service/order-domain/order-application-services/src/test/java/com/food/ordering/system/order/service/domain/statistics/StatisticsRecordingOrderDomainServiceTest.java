@@ -0,0 +1,79 @@
+package com.food.ordering.system.order.service.domain.statistics;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.OrderFixtures;
+import com.food.ordering.system.order.service.domain.ResourcelessTransactionManager;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatisticsRecordingOrderDomainServiceTest {
+  private static final long NOW = 90 * 60_000L;
+  private static final List<FailureReason> REJECTION = List.of(FailureReason.of(FailureCode.RESTAURANT_REJECTED));
+
+  private final RestaurantOrderStatistics statistics = new RestaurantOrderStatistics(5, () -> NOW);
+  private final StatisticsRecordingOrderDomainService orderDomainService =
+      new StatisticsRecordingOrderDomainService(new OrderDomainServiceImpl(), statistics);
+  private final TransactionTemplate transactionTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+  private final SplittableRandom random = new SplittableRandom(3);
+  private final Restaurant restaurant = OrderFixtures.restaurant(random);
+
+  @Test
+  void committedTransitionsAreRecorded() {
+    Order order = OrderFixtures.order(restaurant, random);
+    inTransaction(order, created -> orderDomainService.validateAndInitiateOrder(created, restaurant), false);
+    inTransaction(order, orderDomainService::payOrder, false);
+    inTransaction(order, orderDomainService::approveOrder, false);
+
+    RestaurantStatisticsSnapshot snapshot = statistics.snapshot(restaurant.getId()).orElseThrow();
+    assertThat(snapshot.getOrdersByStatus()).containsEntry(OrderStatus.PENDING, 0L)
+        .containsEntry(OrderStatus.PAID, 0L)
+        .containsEntry(OrderStatus.APPROVED, 1L);
+    assertThat(snapshot.getApprovedRevenueMinorUnits())
+        .isEqualTo(order.getPrice().getAmount().movePointRight(2).longValueExact());
+    assertThat(snapshot.getWindows().get(0).getTransitions()).containsEntry(OrderStatus.PENDING, 1L)
+        .containsEntry(OrderStatus.PAID, 1L)
+        .containsEntry(OrderStatus.APPROVED, 1L);
+  }
+
+  @Test
+  void rolledBackTransitionsAreNotRecorded() {
+    Order rolledBackCreation = OrderFixtures.order(restaurant, random);
+    inTransaction(rolledBackCreation, created -> orderDomainService.validateAndInitiateOrder(created, restaurant), true);
+    Order order = OrderFixtures.order(restaurant, random);
+    inTransaction(order, created -> orderDomainService.validateAndInitiateOrder(created, restaurant), false);
+    inTransaction(order, orderDomainService::payOrder, false);
+    inTransaction(order, orderDomainService::approveOrder, true);
+    Order cancelled = OrderFixtures.order(restaurant, random);
+    inTransaction(cancelled, created -> orderDomainService.validateAndInitiateOrder(created, restaurant), false);
+    inTransaction(cancelled, pending -> orderDomainService.cancelOrder(pending, REJECTION), true);
+
+    RestaurantStatisticsSnapshot snapshot = statistics.snapshot(restaurant.getId()).orElseThrow();
+    assertThat(snapshot.getOrdersByStatus()).containsEntry(OrderStatus.PENDING, 1L)
+        .containsEntry(OrderStatus.PAID, 1L)
+        .containsEntry(OrderStatus.APPROVED, 0L)
+        .containsEntry(OrderStatus.CANCELLED, 0L);
+    assertThat(snapshot.getApprovedRevenueMinorUnits()).isZero();
+    assertThat(snapshot.getWindows().get(0).getTransitions()).containsEntry(OrderStatus.PENDING, 2L)
+        .containsEntry(OrderStatus.APPROVED, 0L);
+  }
+
+  private void inTransaction(Order order, Consumer<Order> transition, boolean rollBack) {
+    transactionTemplate.executeWithoutResult(status -> {
+      transition.accept(order);
+      if (rollBack) {
+        status.setRollbackOnly();
+      }
+    });
+  }
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
@@ -16,7 +17,7 @@ public interface OrderDomainService {
 
   void  approveOrder(Order order);
 
-  OrderCancelledEvent cancelOrderPayment(Order order, List<String> failureMessages);
+  OrderCancelledEvent cancelOrderPayment(Order order, List<FailureReason> failureReasons);
 
-  void cancelOrder(Order order, List<String> failureMessages);
+  void cancelOrder(Order order, List<FailureReason> failureReasons);
 }
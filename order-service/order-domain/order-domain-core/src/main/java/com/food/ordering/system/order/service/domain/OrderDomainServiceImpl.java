@@ -1,39 +1,65 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.event.DomainEventClock;
+import com.food.ordering.system.domain.valueobject.FailureReason;
 import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItemsValidator;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderApprovalPayload;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaymentPayload;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import lombok.extern.slf4j.Slf4j;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.List;
 
 @Slf4j
 public class OrderDomainServiceImpl implements OrderDomainService {
 
-  private static final String UTC = "UTC";
+  private final DomainEventClock clock;
+  private final OrderItemsValidator itemsValidator;
+  private final ValidatedBasketCache basketCache;
+
+  public OrderDomainServiceImpl() {
+    this(DomainEventClock.SYSTEM, OrderItemsValidator.DEFAULT);
+  }
+
+  public OrderDomainServiceImpl(DomainEventClock clock, OrderItemsValidator itemsValidator) {
+    this(clock, itemsValidator, ValidatedBasketCache.DISABLED);
+  }
+
+  public OrderDomainServiceImpl(DomainEventClock clock,
+                                OrderItemsValidator itemsValidator,
+                                ValidatedBasketCache basketCache) {
+    this.clock = clock;
+    this.itemsValidator = itemsValidator;
+    this.basketCache = basketCache;
+  }
 
   @Override
   public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
     validateRestaurant(restaurant);
-    setOrderProductInformation(order, restaurant);
-    order.validateOrder();
-    order.initializeOrderItems();
+    if (basketCache.confirmProducts(order, restaurant)) {
+      order.validateOrderWithValidItems();
+    } else {
+      setOrderProductInformation(order, restaurant);
+      order.validateOrder(itemsValidator);
+      basketCache.remember(order, restaurant);
+    }
+    order.initializeOrder();
 
     log.info("Order created successfully. OrderId: {}", order.getId().getValue());
 
-    return new OrderCreatedEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
+    return new OrderCreatedEvent(OrderPaymentPayload.from(order), clock.millis());
   }
 
   @Override
   public OrderPaidEvent payOrder(Order order) {
     order.pay();
     log.info("Order paid successfully. OrderId: {}", order.getId().getValue());
-    return new OrderPaidEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
+    return new OrderPaidEvent(OrderApprovalPayload.from(order), clock.millis());
   }
 
   @Override
@@ -44,15 +70,15 @@ public class OrderDomainServiceImpl implements OrderDomainService {
   }
 
   @Override
-  public OrderCancelledEvent cancelOrderPayment(Order order, List<String> failureMessages) {
-    order.initCancel(failureMessages);
+  public OrderCancelledEvent cancelOrderPayment(Order order, List<FailureReason> failureReasons) {
+    order.initCancel(failureReasons);
     log.info("Order payment cancelled successfully. OrderId: {}", order.getId().getValue());
-    return new OrderCancelledEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
+    return new OrderCancelledEvent(OrderPaymentPayload.from(order), clock.millis());
   }
 
   @Override
-  public void cancelOrder(Order order, List<String> failureMessages) {
-    order.cancel(failureMessages);
+  public void cancelOrder(Order order, List<FailureReason> failureReasons) {
+    order.cancel(failureReasons);
     log.info("Order cancelled successfully. OrderId: {}", order.getId().getValue());
   }
 
@@ -0,0 +1,219 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers baskets that passed validation, so that an exact reorder skips matching its items
+ * against the menu and validating their prices, and reuses the confirmed product names and prices.
+ * <p>
+ * A basket is keyed by a 64-bit fingerprint of the restaurant, its {@link Restaurant#getMenuVersion()
+ * menu version}, the order total and the product, quantity, price and subtotal of every item. A
+ * menu change almost always gives the restaurant a new menu version that no remembered basket
+ * carries, so baskets validated against the old menu are not looked at again and age out.
+ * <p>
+ * Neither hash is trusted: a candidate is compared field by field with the order, and the menu
+ * entry that confirmed each item, found again by its position, must still have the id, name and
+ * price the basket was validated with. A fingerprint or menu version collision therefore only
+ * costs a miss.
+ */
+public class ValidatedBasketCache {
+  public static final ValidatedBasketCache DISABLED = new ValidatedBasketCache(0);
+
+  private final int maxEntries;
+  private final ConcurrentMap<Long, Basket> baskets = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public ValidatedBasketCache(int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Confirms the products of {@code order} from a remembered basket equal to it.
+   *
+   * @return whether one was found; the order is left untouched otherwise.
+   */
+  public boolean confirmProducts(Order order, Restaurant restaurant) {
+    if (maxEntries == 0) {
+      return false;
+    }
+    Basket basket = baskets.get(fingerprint(order, restaurant));
+    if (basket == null || !basket.matches(order, restaurant)) {
+      misses.increment();
+      return false;
+    }
+    basket.confirm(order.getItems());
+    hits.increment();
+    return true;
+  }
+
+  /**
+   * Remembers the basket of {@code order}, which has been validated and whose products carry their
+   * confirmed names and prices.
+   */
+  public void remember(Order order, Restaurant restaurant) {
+    if (maxEntries == 0) {
+      return;
+    }
+    if (baskets.size() >= maxEntries) {
+      evict();
+    }
+    Basket basket = Basket.of(order, restaurant);
+    if (basket != null) {
+      baskets.put(fingerprint(order, restaurant), basket);
+    }
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public int size() {
+    return baskets.size();
+  }
+
+  private static long fingerprint(Order order, Restaurant restaurant) {
+    long hash = mix(restaurant.getId().getValue().getMostSignificantBits(),
+        restaurant.getId().getValue().getLeastSignificantBits());
+    hash = mix(hash, restaurant.getMenuVersion());
+    hash = mix(hash, Objects.hashCode(order.getPrice()));
+    for (OrderItem item : order.getItems()) {
+      ProductId productId = item.getProduct().getId();
+      hash = mix(hash, productId == null ? 0 : productId.getValue().getMostSignificantBits());
+      hash = mix(hash, productId == null ? 0 : productId.getValue().getLeastSignificantBits());
+      hash = mix(hash, item.getQuantity());
+      hash = mix(hash, Objects.hashCode(item.getPrice()));
+      hash = mix(hash, Objects.hashCode(item.getSubTotal()));
+    }
+    return hash;
+  }
+
+  private static long mix(long hash, long value) {
+    hash = (hash ^ value) * 0x9e3779b97f4a7c15L;
+    return hash ^ (hash >>> 29);
+  }
+
+  /**
+   * Drops roughly an eighth of the cache in hash order; an evicted basket is validated again.
+   */
+  private void evict() {
+    int toRemove = Math.max(1, maxEntries / 8);
+    Iterator<Long> keys = baskets.keySet().iterator();
+    while (toRemove-- > 0 && keys.hasNext()) {
+      keys.next();
+      keys.remove();
+    }
+  }
+
+  private static final class Basket {
+    private final RestaurantId restaurantId;
+    private final long menuVersion;
+    private final Money price;
+    private final ProductId[] productIds;
+    private final int[] quantities;
+    private final Money[] prices;
+    private final Money[] subTotals;
+    private final String[] confirmedNames;
+    private final Money[] confirmedPrices;
+    private final int[] menuPositions;
+
+    private Basket(Order order, Restaurant restaurant, int[] menuPositions) {
+      List<OrderItem> items = order.getItems();
+      this.menuPositions = menuPositions;
+      this.restaurantId = restaurant.getId();
+      this.menuVersion = restaurant.getMenuVersion();
+      this.price = order.getPrice();
+      this.productIds = new ProductId[items.size()];
+      this.quantities = new int[items.size()];
+      this.prices = new Money[items.size()];
+      this.subTotals = new Money[items.size()];
+      this.confirmedNames = new String[items.size()];
+      this.confirmedPrices = new Money[items.size()];
+      for (int i = 0; i < items.size(); i++) {
+        OrderItem item = items.get(i);
+        Product product = item.getProduct();
+        productIds[i] = product.getId();
+        quantities[i] = item.getQuantity();
+        prices[i] = item.getPrice();
+        subTotals[i] = item.getSubTotal();
+        confirmedNames[i] = product.getName();
+        confirmedPrices[i] = product.getPrice();
+      }
+    }
+
+    /**
+     * @return the basket of a validated order, or null when an item's confirmed product is not on
+     * the menu as it stands.
+     */
+    private static Basket of(Order order, Restaurant restaurant) {
+      List<OrderItem> items = order.getItems();
+      List<Product> menu = restaurant.getProducts();
+      int[] menuPositions = new int[items.size()];
+      for (int i = 0; i < items.size(); i++) {
+        Product product = items.get(i).getProduct();
+        menuPositions[i] = -1;
+        // the last equal entry, as that is the one whose name and price the order was given
+        for (int position = menu.size() - 1; position >= 0; position--) {
+          if (sameProduct(menu.get(position), product.getId(), product.getName(), product.getPrice())) {
+            menuPositions[i] = position;
+            break;
+          }
+        }
+        if (menuPositions[i] < 0) {
+          return null;
+        }
+      }
+      return new Basket(order, restaurant, menuPositions);
+    }
+
+    private boolean matches(Order order, Restaurant restaurant) {
+      List<OrderItem> items = order.getItems();
+      if (menuVersion != restaurant.getMenuVersion() || !restaurantId.equals(restaurant.getId())
+          || !Objects.equals(price, order.getPrice()) || items.size() != productIds.length) {
+        return false;
+      }
+      List<Product> menu = restaurant.getProducts();
+      for (int i = 0; i < productIds.length; i++) {
+        OrderItem item = items.get(i);
+        if (quantities[i] != item.getQuantity()
+            || !Objects.equals(productIds[i], item.getProduct().getId())
+            || !Objects.equals(prices[i], item.getPrice())
+            || !Objects.equals(subTotals[i], item.getSubTotal())
+            || menuPositions[i] >= menu.size()
+            || !sameProduct(menu.get(menuPositions[i]), productIds[i], confirmedNames[i], confirmedPrices[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static boolean sameProduct(Product product, ProductId productId, String name, Money price) {
+      return Objects.equals(product.getId(), productId)
+          && Objects.equals(product.getName(), name)
+          && Objects.equals(product.getPrice(), price);
+    }
+
+    private void confirm(List<OrderItem> items) {
+      for (int i = 0; i < confirmedNames.length; i++) {
+        items.get(i).getProduct().updateWithConfirmedNameAndPrice(confirmedNames[i], confirmedPrices[i]);
+      }
+    }
+  }
+}
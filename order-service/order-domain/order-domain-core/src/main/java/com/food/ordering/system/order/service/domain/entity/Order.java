@@ -7,6 +7,7 @@ import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,7 +19,7 @@ public class Order extends AggregateRoot<OrderId> {
   private final List<OrderItem> items;
   private TrackingId trackingId;
   private OrderStatus orderStatus;
-  private List<String> failureMessages;
+  private List<FailureReason> failureReasons;
 
   public void initializeOrder() {
     setId(new OrderId(UUID.randomUUID()));
@@ -35,9 +36,22 @@ public class Order extends AggregateRoot<OrderId> {
   }
 
   public void validateOrder() {
+    validateOrder(OrderItemsValidator.DEFAULT);
+  }
+
+  public void validateOrder(OrderItemsValidator itemsValidator) {
+    validateInitialOrder();
+    validateTotalPrice();
+    itemsValidator.validate(this.items, this.price);
+  }
+
+  /**
+   * Checks the order as {@link #validateOrder(OrderItemsValidator)} does, except for its items,
+   * which the caller knows to be valid.
+   */
+  public void validateOrderWithValidItems() {
     validateInitialOrder();
     validateTotalPrice();
-    validateItemsPrice();
   }
 
   public void pay() {
@@ -55,49 +69,33 @@ public class Order extends AggregateRoot<OrderId> {
   }
 
 
-  public void initCancel(List<String> failureMessages) {
+  public void initCancel(List<FailureReason> failureReasons) {
     if (orderStatus != OrderStatus.PAID) {
       throw new OrderDomainException("Order is not in correct state for initCancel operation");
     }
     this.orderStatus = OrderStatus.CANCELLING;
-    updateFailureMessages(failureMessages);
+    updateFailureReasons(failureReasons);
   }
 
-  public void cancel(List<String> failureMessages) {
+  public void cancel(List<FailureReason> failureReasons) {
     if (!(orderStatus == OrderStatus.CANCELLING || orderStatus == OrderStatus.PENDING)) {
       throw new OrderDomainException("Order is not in correct state for cancel operation");
     }
     this.orderStatus = OrderStatus.CANCELLED;
-    updateFailureMessages(failureMessages);
+    updateFailureReasons(failureReasons);
   }
 
-  private void updateFailureMessages(List<String> failureMessages) {
-    if (this.failureMessages == null) {
-      this.failureMessages = failureMessages;
-    } else {
-      if (failureMessages != null) {
-        this.failureMessages.addAll(failureMessages.stream().filter(m -> !m.isBlank()).toList());
-      }
+  private void updateFailureReasons(List<FailureReason> failureReasons) {
+    if (failureReasons == null || failureReasons.isEmpty()) {
+      return;
     }
-  }
-
-  private void validateItemsPrice() {
-    var orderItemTotal = this.items.stream()
-        .map(orderItem -> {
-          validateItemPrice(orderItem);
-          return orderItem.getSubTotal();
-        }).reduce(Money.ZERO, Money::add);
-
-    if (!orderItemTotal.equals(this.price)) {
-      throw new OrderDomainException("Total price: %.2f$ is not equal to Order item total: %.2f$"
-          .formatted(this.price.getAmount(), orderItemTotal.getAmount()));
+    if (this.failureReasons == null) {
+      this.failureReasons = new ArrayList<>(failureReasons.size());
     }
-  }
-
-  private void validateItemPrice(OrderItem orderItem) {
-    if (!orderItem.isPriceValid()) {
-      throw new OrderDomainException("Order item price is %.2f$ is not valid for product price: %.2f$"
-          .formatted(orderItem.getPrice().getAmount(), orderItem.getProduct().getPrice().getAmount()));
+    for (FailureReason failureReason : failureReasons) {
+      if (failureReason != null) {
+        this.failureReasons.add(failureReason);
+      }
     }
   }
 
@@ -122,7 +120,7 @@ public class Order extends AggregateRoot<OrderId> {
     items = builder.items;
     orderStatus = builder.orderStatus;
     trackingId = builder.trackingId;
-    failureMessages = builder.failureMessages;
+    failureReasons = builder.failureReasons;
   }
 
 
@@ -155,8 +153,8 @@ public class Order extends AggregateRoot<OrderId> {
   }
 
 
-  public List<String> getFailureMessages() {
-    return failureMessages;
+  public List<FailureReason> getFailureReasons() {
+    return failureReasons;
   }
 
   public static final class Builder {
@@ -168,7 +166,7 @@ public class Order extends AggregateRoot<OrderId> {
     private List<OrderItem> items;
     private OrderStatus orderStatus;
     private TrackingId trackingId;
-    private List<String> failureMessages;
+    private List<FailureReason> failureReasons;
 
     private Builder() {
     }
@@ -217,8 +215,8 @@ public class Order extends AggregateRoot<OrderId> {
       return this;
     }
 
-    public Builder failureMessages(List<String> val) {
-      failureMessages = val;
+    public Builder failureReasons(List<FailureReason> val) {
+      failureReasons = val;
       return this;
     }
 
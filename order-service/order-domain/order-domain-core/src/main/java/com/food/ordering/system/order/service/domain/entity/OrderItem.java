@@ -51,6 +51,10 @@ public class OrderItem extends BaseEntity<OrderItemId> {
   }
 
   public boolean isPriceValid() {
+    return OrderItemsValidator.validSubTotalCents(this) != OrderItemsValidator.INVALID;
+  }
+
+  boolean isPriceValidAsDecimal() {
     return this.price.isGreaterThan(Money.ZERO)
         && this.price.equals(this.product.getPrice())
         && this.subTotal.equals(this.price.multiply(quantity));
@@ -0,0 +1,203 @@
+package com.food.ordering.system.order.service.domain.entity;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates item prices and the order total in a single pass. Amounts with two decimals are
+ * checked and summed as long cents, so a valid item of up to 15 digits allocates nothing; anything
+ * else falls back to the {@link BigDecimal} rules of {@link OrderItem#isPriceValidAsDecimal()}.
+ * The pass stops at the first invalid item.
+ * <p>
+ * Orders with more items than the parallel threshold are split into ranges that are validated
+ * and summed on the common fork-join pool. Ranges after the lowest invalid item found so far are
+ * abandoned, and the reported item is always the first invalid one in order.
+ */
+public final class OrderItemsValidator {
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 2_048;
+  public static final OrderItemsValidator DEFAULT = new OrderItemsValidator(DEFAULT_PARALLEL_THRESHOLD);
+
+  static final long NOT_CENTS = Long.MIN_VALUE;
+  static final long INVALID = Long.MIN_VALUE + 1;
+  private static final int LEAF_SIZE = 512;
+  private static final int MAX_CENTS_PRECISION = 18;
+  private static final int EXACT_DOUBLE_PRECISION = 15;
+
+  private final int parallelThreshold;
+
+  public OrderItemsValidator(int parallelThreshold) {
+    if (parallelThreshold <= 0) {
+      throw new IllegalArgumentException("Parallel threshold must be greater than zero");
+    }
+    this.parallelThreshold = parallelThreshold;
+  }
+
+  void validate(List<OrderItem> items, Money price) {
+    Total total;
+    if (items.size() > parallelThreshold) {
+      AtomicInteger firstInvalid = new AtomicInteger(Integer.MAX_VALUE);
+      total = ForkJoinPool.commonPool().invoke(new RangeTask(items, 0, items.size(), firstInvalid));
+      if (firstInvalid.get() != Integer.MAX_VALUE) {
+        throw invalidItem(items.get(firstInvalid.get()));
+      }
+    } else {
+      total = sum(items, 0, items.size(), null);
+    }
+    if (!total.matches(price)) {
+      throw new OrderDomainException("Total price: %.2f$ is not equal to Order item total: %.2f$"
+          .formatted(price.getAmount(), total.toBigDecimal()));
+    }
+  }
+
+  /**
+   * @return the item subtotal in cents if the item is valid and fits, {@code NOT_CENTS} if it is
+   * valid but has to be summed as a decimal, and {@code INVALID} otherwise. Cents never come
+   * near either marker because they are limited to 18 digits.
+   */
+  static long validSubTotalCents(OrderItem item) {
+    long price = toCents(item.getPrice());
+    if (price == NOT_CENTS) {
+      return item.isPriceValidAsDecimal() ? toCents(item.getSubTotal()) : INVALID;
+    }
+    Money productPrice = item.getProduct().getPrice();
+    if (price <= 0 || productPrice == null || toCents(productPrice) != price) {
+      return INVALID;
+    }
+    long subTotal = toCents(item.getSubTotal());
+    if (subTotal == NOT_CENTS) {
+      return item.isPriceValidAsDecimal() ? NOT_CENTS : INVALID;
+    }
+    long expected;
+    try {
+      expected = Math.multiplyExact(price, (long) item.getQuantity());
+    } catch (ArithmeticException e) {
+      return INVALID;
+    }
+    return subTotal == expected ? subTotal : INVALID;
+  }
+
+  /**
+   * Validates and sums {@code items[from, to)}. In parallel mode {@code firstInvalid} holds the
+   * lowest invalid index seen by any range; without it the first invalid item is thrown directly.
+   */
+  private static Total sum(List<OrderItem> items, int from, int to, AtomicInteger firstInvalid) {
+    long cents = 0;
+    BigDecimal decimal = null;
+    for (int i = from; i < to; i++) {
+      if (firstInvalid != null && firstInvalid.get() < i) {
+        return null;
+      }
+      OrderItem item = items.get(i);
+      long subTotal = validSubTotalCents(item);
+      if (subTotal == INVALID) {
+        if (firstInvalid == null) {
+          throw invalidItem(item);
+        }
+        firstInvalid.accumulateAndGet(i, Math::min);
+        return null;
+      }
+      if (subTotal != NOT_CENTS) {
+        try {
+          cents = Math.addExact(cents, subTotal);
+          continue;
+        } catch (ArithmeticException e) {
+          // summed as a decimal below
+        }
+      }
+      BigDecimal amount = item.getSubTotal().getAmount();
+      decimal = decimal == null ? amount : decimal.add(amount);
+    }
+    return new Total(cents, decimal);
+  }
+
+  private static long toCents(Money money) {
+    BigDecimal amount = money.getAmount();
+    if (amount == null || amount.scale() != 2 || amount.precision() > MAX_CENTS_PRECISION) {
+      return NOT_CENTS;
+    }
+    if (amount.precision() <= EXACT_DOUBLE_PRECISION) {
+      // below 2^50 the rounded quotient times 100 is within 0.5 of the unscaled value, and
+      // BigDecimal.doubleValue() does not allocate for it, unlike unscaledValue()
+      return Math.round(amount.doubleValue() * 100);
+    }
+    return amount.unscaledValue().longValue();
+  }
+
+  private static OrderDomainException invalidItem(OrderItem orderItem) {
+    Money productPrice = orderItem.getProduct().getPrice();
+    if (productPrice == null) {
+      return new OrderDomainException("Order item price is %.2f$ is not valid for a product that is not on the menu"
+          .formatted(orderItem.getPrice().getAmount()));
+    }
+    return new OrderDomainException("Order item price is %.2f$ is not valid for product price: %.2f$"
+        .formatted(orderItem.getPrice().getAmount(), productPrice.getAmount()));
+  }
+
+  private record Total(long cents, BigDecimal decimal) {
+
+    Total plus(Total other) {
+      try {
+        return new Total(Math.addExact(cents, other.cents), add(decimal, other.decimal));
+      } catch (ArithmeticException e) {
+        BigDecimal overflow = BigDecimal.valueOf(cents, 2).add(BigDecimal.valueOf(other.cents, 2));
+        return new Total(0, add(add(decimal, other.decimal), overflow));
+      }
+    }
+
+    boolean matches(Money price) {
+      if (decimal == null) {
+        long priceCents = toCents(price);
+        if (priceCents != NOT_CENTS) {
+          return priceCents == cents;
+        }
+      }
+      return price.equals(new Money(toBigDecimal()));
+    }
+
+    BigDecimal toBigDecimal() {
+      BigDecimal total = BigDecimal.valueOf(cents, 2);
+      return decimal == null ? total : total.add(decimal).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal add(BigDecimal left, BigDecimal right) {
+      if (left == null) {
+        return right;
+      }
+      return right == null ? left : left.add(right);
+    }
+  }
+
+  private static final class RangeTask extends RecursiveTask<Total> {
+    private final List<OrderItem> items;
+    private final int from;
+    private final int to;
+    private final AtomicInteger firstInvalid;
+
+    private RangeTask(List<OrderItem> items, int from, int to, AtomicInteger firstInvalid) {
+      this.items = items;
+      this.from = from;
+      this.to = to;
+      this.firstInvalid = firstInvalid;
+    }
+
+    @Override
+    protected Total compute() {
+      if (to - from <= LEAF_SIZE) {
+        return sum(items, from, to, firstInvalid);
+      }
+      int middle = (from + to) >>> 1;
+      RangeTask left = new RangeTask(items, from, middle, firstInvalid);
+      left.fork();
+      Total right = new RangeTask(items, middle, to, firstInvalid).compute();
+      Total leftTotal = left.join();
+      return leftTotal == null || right == null ? null : leftTotal.plus(right);
+    }
+  }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 public class Restaurant extends AggregateRoot<RestaurantId> {
   private final List<Product> products;
   private boolean active;
+  private volatile long menuVersion;
 
   private Restaurant(Builder builder) {
     super.setId(builder.id);
@@ -24,6 +25,37 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
     return active;
   }
 
+  /**
+   * Fingerprint of the menu: every product id, name and price in menu order. A change to the menu
+   * yields a different version unless the 64-bit hash collides, so callers may use it to tell
+   * menus apart quickly but not to prove two menus equal. Computed once, a restaurant being a
+   * snapshot of its menu.
+   */
+  public long getMenuVersion() {
+    long version = menuVersion;
+    if (version == 0) {
+      version = fingerprintMenu();
+      menuVersion = version;
+    }
+    return version;
+  }
+
+  private long fingerprintMenu() {
+    long hash = products.size();
+    for (Product product : products) {
+      hash = mix(hash, product.getId().getValue().getMostSignificantBits());
+      hash = mix(hash, product.getId().getValue().getLeastSignificantBits());
+      hash = mix(hash, product.getName() == null ? 0 : product.getName().hashCode());
+      hash = mix(hash, product.getPrice() == null ? 0 : product.getPrice().hashCode());
+    }
+    return hash == 0 ? 1 : hash;
+  }
+
+  private static long mix(long hash, long value) {
+    hash = (hash ^ value) * 0x9e3779b97f4a7c15L;
+    return hash ^ (hash >>> 29);
+  }
+
   public static final class Builder {
     private RestaurantId id;
     private List<Product> products;
@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.domain.event;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+
+import java.util.List;
+
+/**
+ * What the restaurant service needs to approve a paid order.
+ */
+public record OrderApprovalPayload(OrderId orderId, RestaurantId restaurantId, Money price, List<Item> items) {
+
+  public OrderApprovalPayload {
+    items = List.copyOf(items);
+  }
+
+  public static OrderApprovalPayload from(Order order) {
+    List<OrderItem> orderItems = order.getItems();
+    Item[] items = new Item[orderItems.size()];
+    for (int i = 0; i < items.length; i++) {
+      OrderItem orderItem = orderItems.get(i);
+      items[i] = new Item(orderItem.getProduct().getId(), orderItem.getQuantity());
+    }
+    return new OrderApprovalPayload(order.getId(), order.getrestaurantId(), order.getPrice(), List.of(items));
+  }
+
+  public record Item(ProductId productId, int quantity) {
+  }
+}
@@ -1,11 +1,7 @@
 package com.food.ordering.system.order.service.domain.event;
 
-import com.food.ordering.system.order.service.domain.entity.Order;
-
-import java.time.ZonedDateTime;
-
-public class OrderCancelledEvent extends OrderEvent {
-  public OrderCancelledEvent(Order order, ZonedDateTime createdAt) {
-    super(order, createdAt);
+public class OrderCancelledEvent extends OrderEvent<OrderPaymentPayload> {
+  public OrderCancelledEvent(OrderPaymentPayload payload, long createdAtMillis) {
+    super(payload, createdAtMillis);
   }
 }
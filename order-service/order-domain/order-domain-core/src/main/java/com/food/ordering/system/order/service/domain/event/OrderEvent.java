@@ -1,24 +1,33 @@
 package com.food.ordering.system.order.service.domain.event;
 
 import com.food.ordering.system.domain.event.DomainEvent;
-import com.food.ordering.system.order.service.domain.entity.Order;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
-public abstract class OrderEvent implements DomainEvent<Order> {
-  private final Order order;
-  private final ZonedDateTime createdAt;
+/**
+ * Carries an immutable payload captured when the event is created, so publishers never hold on
+ * to the order aggregate or observe its later transitions.
+ */
+public abstract class OrderEvent<P> implements DomainEvent<P> {
+  private final P payload;
+  private final long createdAtMillis;
 
-  protected OrderEvent(Order order, ZonedDateTime createdAt) {
-    this.order = order;
-    this.createdAt = createdAt;
+  protected OrderEvent(P payload, long createdAtMillis) {
+    this.payload = payload;
+    this.createdAtMillis = createdAtMillis;
   }
 
-  public Order getOrder() {
-    return order;
+  public P getPayload() {
+    return payload;
+  }
+
+  public long getCreatedAtMillis() {
+    return createdAtMillis;
   }
 
   public ZonedDateTime getCreatedAt() {
-    return createdAt;
+    return Instant.ofEpochMilli(createdAtMillis).atZone(ZoneOffset.UTC);
   }
 }
@@ -1,11 +1,7 @@
 package com.food.ordering.system.order.service.domain.event;
 
-import com.food.ordering.system.order.service.domain.entity.Order;
-
-import java.time.ZonedDateTime;
-
-public class OrderPaidEvent extends OrderEvent {
-  public OrderPaidEvent(Order order, ZonedDateTime createdAt) {
-    super(order, createdAt);
+public class OrderPaidEvent extends OrderEvent<OrderApprovalPayload> {
+  public OrderPaidEvent(OrderApprovalPayload payload, long createdAtMillis) {
+    super(payload, createdAtMillis);
   }
 }
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.event;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+
+/**
+ * What the payment service needs to charge or refund an order.
+ */
+public record OrderPaymentPayload(OrderId orderId, CustomerId customerId, Money price) {
+
+  public static OrderPaymentPayload from(Order order) {
+    return new OrderPaymentPayload(order.getId(), order.getCustomerId(), order.getPrice());
+  }
+}
@@ -0,0 +1,9 @@
+package com.food.ordering.system.order.service.domain.exception;
+
+import com.food.ordering.system.domain.exception.DomainException;
+
+public class OrderNotFoundException extends DomainException {
+  public OrderNotFoundException(String message) {
+    super(message);
+  }
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain.valueobject;
 
+import java.util.Locale;
 import java.util.UUID;
 
 public class StreetAddress {
@@ -31,6 +32,52 @@ public class StreetAddress {
     return city;
   }
 
+  /**
+   * @return this address without id, with whitespace collapsed and case folded, so that equal
+   * addresses written differently compare equal.
+   */
+  public StreetAddress normalize() {
+    return new StreetAddress(null, normalizeText(street),
+        replaceWhitespace(postalCode, "").toUpperCase(Locale.ROOT), normalizeText(city));
+  }
+
+  private static String normalizeText(String value) {
+    return replaceWhitespace(value.strip(), " ").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Replaces every run of {@code [ \t\n\x0B\f\r]} as {@code value.replaceAll("\\s+", replacement)}
+   * would, in one pass and returning {@code value} itself if nothing changes.
+   */
+  private static String replaceWhitespace(String value, String replacement) {
+    StringBuilder result = null;
+    int copied = 0;
+    int i = 0;
+    while (i < value.length()) {
+      if (!isWhitespace(value.charAt(i))) {
+        i++;
+        continue;
+      }
+      int end = i + 1;
+      while (end < value.length() && isWhitespace(value.charAt(end))) {
+        end++;
+      }
+      if (end - i != 1 || !replacement.equals(" ") || value.charAt(i) != ' ') {
+        if (result == null) {
+          result = new StringBuilder(value.length());
+        }
+        result.append(value, copied, i).append(replacement);
+        copied = end;
+      }
+      i = end;
+    }
+    return result == null ? value : result.append(value, copied, value.length()).toString();
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || (c >= '\t' && c <= '\r');
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -0,0 +1,178 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.event.DomainEventClock;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.OrderItemsValidator;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValidatedBasketCacheTest {
+  private static final RestaurantId RESTAURANT_ID = new RestaurantId(UUID.randomUUID());
+  private static final List<ProductId> PRODUCT_IDS =
+      List.of(new ProductId(UUID.randomUUID()), new ProductId(UUID.randomUUID()), new ProductId(UUID.randomUUID()));
+
+  private final ValidatedBasketCache basketCache = new ValidatedBasketCache(100);
+  private final OrderDomainService orderDomainService =
+      new OrderDomainServiceImpl(DomainEventClock.SYSTEM, OrderItemsValidator.DEFAULT, basketCache);
+
+  @Test
+  void reorderOfAValidatedBasketHitsAndIsConfirmed() {
+    Restaurant restaurant = restaurant(menu());
+    orderDomainService.validateAndInitiateOrder(order(restaurant, 2, 1), restaurant);
+
+    Order reorder = order(restaurant, 2, 1);
+    orderDomainService.validateAndInitiateOrder(reorder, restaurant);
+
+    assertThat(basketCache.getHits()).isEqualTo(1);
+    assertThat(reorder.getItems()).extracting(item -> item.getProduct().getName())
+        .containsExactly("product-0", "product-1");
+    assertThat(reorder.getItems()).extracting(item -> item.getProduct().getPrice())
+        .containsExactly(money(1_050), money(400));
+  }
+
+  @Test
+  void priceChangeMisses() {
+    Restaurant restaurant = restaurant(menu());
+    orderDomainService.validateAndInitiateOrder(order(restaurant, 2, 1), restaurant);
+    List<Product> menu = menu();
+    menu.set(1, new Product(PRODUCT_IDS.get(1), "product-1", money(450)));
+
+    assertMisses(order(restaurant, 2, 1), restaurant(menu));
+  }
+
+  @Test
+  void renameMisses() {
+    Restaurant restaurant = restaurant(menu());
+    orderDomainService.validateAndInitiateOrder(order(restaurant, 2, 1), restaurant);
+    List<Product> menu = menu();
+    menu.set(0, new Product(PRODUCT_IDS.get(0), "renamed", money(1_050)));
+
+    assertMisses(order(restaurant, 2, 1), restaurant(menu));
+  }
+
+  @Test
+  void quantityChangeMisses() {
+    Restaurant restaurant = restaurant(menu());
+    orderDomainService.validateAndInitiateOrder(order(restaurant, 2, 1), restaurant);
+
+    assertMisses(order(restaurant, 3, 1), restaurant);
+  }
+
+  @Test
+  void newProductOnTheMenuMisses() {
+    Restaurant restaurant = restaurant(menu());
+    orderDomainService.validateAndInitiateOrder(order(restaurant, 2, 1), restaurant);
+    List<Product> menu = menu();
+    menu.add(new Product(new ProductId(UUID.randomUUID()), "new", money(999)));
+
+    assertMisses(order(restaurant, 2, 1), restaurant(menu));
+  }
+
+  /**
+   * A price change that leaves the menu version as it was, as a hash collision would, must not
+   * serve the price the basket was validated with.
+   */
+  @Test
+  void priceChangeWithAnUnchangedMenuVersionMisses() {
+    Restaurant restaurant = restaurant(menu());
+    orderDomainService.validateAndInitiateOrder(order(restaurant, 2, 1), restaurant);
+    Order reorderAtOldPrices = order(restaurant, 2, 1);
+    long menuVersion = restaurant.getMenuVersion();
+    restaurant.getProducts().get(1).setPrice(money(450));
+
+    assertThat(restaurant.getMenuVersion()).isEqualTo(menuVersion);
+    assertThatThrownBy(() -> orderDomainService.validateAndInitiateOrder(reorderAtOldPrices, restaurant))
+        .isInstanceOf(OrderDomainException.class);
+    assertThat(basketCache.getHits()).isZero();
+  }
+
+  @Test
+  void invalidBasketIsNeverRemembered() {
+    Restaurant restaurant = restaurant(menu());
+    Order wrongSubTotal = order(restaurant, 2, 1);
+    OrderItem item = wrongSubTotal.getItems().get(0);
+    Order order = Order.Builder.builder()
+        .customerId(wrongSubTotal.getCustomerId())
+        .restaurantId(RESTAURANT_ID)
+        .deliveryAddress(wrongSubTotal.getDeliveryAddress())
+        .price(wrongSubTotal.getPrice())
+        .items(new ArrayList<>(List.of(OrderItem.Builder.builder()
+            .product(new Product(item.getProduct().getId(), null, null))
+            .quantity(item.getQuantity())
+            .price(item.getPrice())
+            .subTotal(wrongSubTotal.getPrice())
+            .build(), wrongSubTotal.getItems().get(1))))
+        .build();
+
+    assertThatThrownBy(() -> orderDomainService.validateAndInitiateOrder(order, restaurant))
+        .isInstanceOf(OrderDomainException.class);
+    assertThat(basketCache.size()).isZero();
+  }
+
+  private void assertMisses(Order order, Restaurant restaurant) {
+    long hits = basketCache.getHits();
+    assertThat(basketCache.confirmProducts(order, restaurant)).isFalse();
+    assertThat(basketCache.getHits()).isEqualTo(hits);
+    assertThat(order.getItems()).allSatisfy(item -> assertThat(item.getProduct().getName()).isNull());
+  }
+
+  private static List<Product> menu() {
+    List<Product> menu = new ArrayList<>();
+    menu.add(new Product(PRODUCT_IDS.get(0), "product-0", money(1_050)));
+    menu.add(new Product(PRODUCT_IDS.get(1), "product-1", money(400)));
+    menu.add(new Product(PRODUCT_IDS.get(2), "product-2", money(1_999)));
+    return menu;
+  }
+
+  private static Restaurant restaurant(List<Product> menu) {
+    return Restaurant.Builder.builder().restaurantId(RESTAURANT_ID).products(menu).active(true).build();
+  }
+
+  /**
+   * An order of the first two products of the restaurant at their current prices, as the
+   * application layer hands it over with products carrying their ids only.
+   */
+  private static Order order(Restaurant restaurant, int firstQuantity, int secondQuantity) {
+    List<OrderItem> items = new ArrayList<>();
+    Money total = Money.ZERO;
+    int[] quantities = {firstQuantity, secondQuantity};
+    for (int i = 0; i < quantities.length; i++) {
+      Product product = restaurant.getProducts().get(i);
+      Money subTotal = product.getPrice().multiply(quantities[i]);
+      items.add(OrderItem.Builder.builder()
+          .product(new Product(product.getId(), null, null))
+          .quantity(quantities[i])
+          .price(product.getPrice())
+          .subTotal(subTotal)
+          .build());
+      total = total.add(subTotal);
+    }
+    return Order.Builder.builder()
+        .customerId(new CustomerId(UUID.randomUUID()))
+        .restaurantId(RESTAURANT_ID)
+        .deliveryAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "city"))
+        .price(total)
+        .items(items)
+        .build();
+  }
+
+  private static Money money(long cents) {
+    return new Money(BigDecimal.valueOf(cents, 2));
+  }
+}
@@ -0,0 +1,239 @@
+package com.food.ordering.system.order.service.domain.entity;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the validator with the {@link BigDecimal} rules it replaced: a stream of
+ * {@link OrderItem#isPriceValidAsDecimal()} checks summed with {@link Money#add(Money)}.
+ */
+class OrderItemsValidatorTest {
+  private static final String ACCEPTED = "accepted";
+  private static final OrderItemsValidator SEQUENTIAL = new OrderItemsValidator(Integer.MAX_VALUE);
+  private static final OrderItemsValidator PARALLEL = new OrderItemsValidator(1);
+
+  @Test
+  void validOrderIsAccepted() {
+    List<OrderItem> items = List.of(item("10.50", "10.50", 2, "21.00"), item("4.00", "4.00", 1, "4.00"));
+
+    assertSameOutcome(items, "25.00", ACCEPTED);
+  }
+
+  @Test
+  void wrongItemPriceIsRejected() {
+    List<OrderItem> items = List.of(item("10.50", "10.50", 2, "21.00"), item("4.00", "4.50", 1, "4.50"));
+
+    assertSameOutcome(items, "25.50", "Order item price is 4.50$ is not valid for product price: 4.00$");
+  }
+
+  @Test
+  void wrongSubTotalIsRejected() {
+    List<OrderItem> items = List.of(item("10.50", "10.50", 2, "20.00"));
+
+    assertSameOutcome(items, "20.00", "Order item price is 10.50$ is not valid for product price: 10.50$");
+  }
+
+  @Test
+  void zeroPriceIsRejected() {
+    List<OrderItem> items = List.of(item("0.00", "0.00", 1, "0.00"));
+
+    assertSameOutcome(items, "0.00", "Order item price is 0.00$ is not valid for product price: 0.00$");
+  }
+
+  @Test
+  void priceWithOneDecimalFollowsTheDecimalRules() {
+    List<OrderItem> items = List.of(item("10.5", "10.5", 2, "21.00"), item("4.00", "4.00", 1, "4.00"));
+
+    assertSameOutcome(items, "25.00", ACCEPTED);
+  }
+
+  @Test
+  void priceWithThreeDecimalsFollowsTheDecimalRules() {
+    List<OrderItem> items = List.of(item("0.125", "0.125", 4, "0.50"));
+
+    assertSameOutcome(items, "0.50", ACCEPTED);
+  }
+
+  @Test
+  void productPriceWithAnotherScaleIsRejected() {
+    List<OrderItem> items = List.of(item("10.5", "10.50", 1, "10.50"));
+
+    assertSameOutcome(items, "10.50", "Order item price is 10.50$ is not valid for product price: 10.50$");
+  }
+
+  @Test
+  void subTotalWithAnotherScaleIsRejected() {
+    List<OrderItem> items = List.of(item("10.50", "10.50", 1, "10.5"));
+
+    assertSameOutcome(items, "10.50", "Order item price is 10.50$ is not valid for product price: 10.50$");
+  }
+
+  @Test
+  void totalWithAnotherScaleIsRejected() {
+    List<OrderItem> items = List.of(item("10.50", "10.50", 1, "10.50"));
+
+    assertSameOutcome(items, "10.5", "Total price: 10.50$ is not equal to Order item total: 10.50$");
+  }
+
+  @Test
+  void totalMismatchIsRejected() {
+    List<OrderItem> items = List.of(item("10.50", "10.50", 2, "21.00"), item("4.00", "4.00", 1, "4.00"));
+
+    assertSameOutcome(items, "25.01", "Total price: 25.01$ is not equal to Order item total: 25.00$");
+  }
+
+  @Test
+  void amountsBeyondEighteenDigitsAreSummedAsDecimals() {
+    List<OrderItem> items = List.of(item("12345678901234567.89", "12345678901234567.89", 1, "12345678901234567.89"),
+        item("1.00", "1.00", 1, "1.00"));
+
+    assertSameOutcome(items, "12345678901234568.89", ACCEPTED);
+  }
+
+  @Test
+  void amountsBeyondFifteenDigitsAreExactCents() {
+    List<OrderItem> items = List.of(item("9999999999999.99", "9999999999999.99", 1, "9999999999999.99"),
+        item("999999999999999.99", "999999999999999.99", 1, "999999999999999.99"));
+
+    assertSameOutcome(items, "1009999999999999.98", ACCEPTED);
+    assertSameOutcome(items, "1009999999999999.97",
+        "Total price: 1009999999999999.97$ is not equal to Order item total: 1009999999999999.98$");
+  }
+
+  @Test
+  void totalBeyondEighteenDigitsIsComparedAsADecimal() {
+    List<OrderItem> items = Collections.nCopies(3,
+        item("9000000000000000.00", "9000000000000000.00", 1, "9000000000000000.00"));
+
+    assertSameOutcome(items, "27000000000000000.00", ACCEPTED);
+    assertSameOutcome(items, "27000000000000000.01",
+        "Total price: 27000000000000000.01$ is not equal to Order item total: 27000000000000000.00$");
+  }
+
+  @Test
+  void centsOverflowFallsBackToDecimals() {
+    List<OrderItem> items = Collections.nCopies(12,
+        item("9000000000000000.00", "9000000000000000.00", 1, "9000000000000000.00"));
+
+    assertSameOutcome(items, "108000000000000000.00", ACCEPTED);
+    assertSameOutcome(items, "107999999999999999.99",
+        "Total price: 107999999999999999.99$ is not equal to Order item total: 108000000000000000.00$");
+  }
+
+  @Test
+  void centsOverflowAcrossRangesFallsBackToDecimals() {
+    List<OrderItem> items = Collections.nCopies(2_000,
+        item("9000000000000000.00", "9000000000000000.00", 1, "9000000000000000.00"));
+
+    assertSameOutcome(items, "18000000000000000000.00", ACCEPTED);
+  }
+
+  @Test
+  void parallelPathReportsTheFirstInvalidItemWhenALaterRangeFailsFirst() throws InterruptedException {
+    CountDownLatch laterItemChecked = new CountDownLatch(1);
+    List<OrderItem> items = new ArrayList<>(Collections.nCopies(5_000, item("1.00", "1.00", 1, "1.00")));
+    items.set(100, item(new Product(productId(), "early", money("1.00")) {
+      @Override
+      public Money getPrice() {
+        try {
+          laterItemChecked.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return super.getPrice();
+      }
+    }, "2.00", 1, "2.00"));
+    items.set(4_000, item(new Product(productId(), "later", money("1.00")) {
+      @Override
+      public Money getPrice() {
+        laterItemChecked.countDown();
+        return super.getPrice();
+      }
+    }, "3.00", 1, "3.00"));
+
+    String outcome = outcome(PARALLEL, items, money("5002.00"));
+
+    assertThat(laterItemChecked.await(0, TimeUnit.SECONDS)).isTrue();
+    assertThat(outcome)
+        .isEqualTo(legacyOutcome(items, money("5002.00")))
+        .isEqualTo("Order item price is 2.00$ is not valid for product price: 1.00$");
+  }
+
+  @Test
+  void unknownProductIsRejectedWithoutAProductPrice() {
+    // the old rules threw a NullPointerException formatting this message
+    List<OrderItem> items = List.of(item(new Product(productId(), null, null), "4.00", 1, "4.00"));
+
+    assertThat(outcome(SEQUENTIAL, items, money("4.00")))
+        .isEqualTo(outcome(PARALLEL, items, money("4.00")))
+        .isEqualTo("Order item price is 4.00$ is not valid for a product that is not on the menu");
+  }
+
+  private static void assertSameOutcome(List<OrderItem> items, String price, String expected) {
+    Money total = money(price);
+    assertThat(legacyOutcome(items, total)).isEqualTo(expected);
+    assertThat(outcome(SEQUENTIAL, items, total)).isEqualTo(expected);
+    assertThat(outcome(PARALLEL, items, total)).isEqualTo(expected);
+  }
+
+  private static String outcome(OrderItemsValidator validator, List<OrderItem> items, Money price) {
+    try {
+      validator.validate(items, price);
+      return ACCEPTED;
+    } catch (OrderDomainException e) {
+      return e.getMessage();
+    }
+  }
+
+  private static String legacyOutcome(List<OrderItem> items, Money price) {
+    try {
+      Money orderItemTotal = items.stream().map(orderItem -> {
+        if (!orderItem.isPriceValidAsDecimal()) {
+          throw new OrderDomainException("Order item price is %.2f$ is not valid for product price: %.2f$"
+              .formatted(orderItem.getPrice().getAmount(), orderItem.getProduct().getPrice().getAmount()));
+        }
+        return orderItem.getSubTotal();
+      }).reduce(Money.ZERO, Money::add);
+      if (!orderItemTotal.equals(price)) {
+        throw new OrderDomainException("Total price: %.2f$ is not equal to Order item total: %.2f$"
+            .formatted(price.getAmount(), orderItemTotal.getAmount()));
+      }
+      return ACCEPTED;
+    } catch (OrderDomainException e) {
+      return e.getMessage();
+    }
+  }
+
+  private static OrderItem item(String productPrice, String price, int quantity, String subTotal) {
+    return item(new Product(productId(), "product", money(productPrice)), price, quantity, subTotal);
+  }
+
+  private static OrderItem item(Product product, String price, int quantity, String subTotal) {
+    return OrderItem.Builder.builder()
+        .product(product)
+        .quantity(quantity)
+        .price(money(price))
+        .subTotal(money(subTotal))
+        .build();
+  }
+
+  private static ProductId productId() {
+    return new ProductId(UUID.randomUUID());
+  }
+
+  private static Money money(String amount) {
+    return new Money(new BigDecimal(amount));
+  }
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.order.service.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreetAddressTest {
+  private static final String ALPHABET = "aB1 -\t\n\u000B\f\r  É";
+
+  @Test
+  void writingsOfTheSameAddressNormalizeEqual() {
+    StreetAddress address = new StreetAddress(UUID.randomUUID(), "  Main \t Street   12 ", "1000 ab", "Amsterdam\n");
+    StreetAddress sameAddress = new StreetAddress(UUID.randomUUID(), "main street 12", "1000AB", "AMSTERDAM");
+
+    assertThat(address.normalize()).isEqualTo(sameAddress.normalize());
+    assertThat(address.normalize().getStreet()).isEqualTo("main street 12");
+    assertThat(address.normalize().getPostalCode()).isEqualTo("1000AB");
+    assertThat(address.normalize().getCity()).isEqualTo("amsterdam");
+    assertThat(address.normalize().getId()).isNull();
+  }
+
+  @Test
+  void normalizesLikeTheRegularExpressions() {
+    SplittableRandom random = new SplittableRandom(7);
+    for (int i = 0; i < 10_000; i++) {
+      StreetAddress address = new StreetAddress(null, text(random), text(random), text(random));
+      StreetAddress normalized = address.normalize();
+
+      assertThat(normalized.getStreet()).isEqualTo(regexText(address.getStreet()));
+      assertThat(normalized.getPostalCode())
+          .isEqualTo(address.getPostalCode().replaceAll("\\s+", "").toUpperCase(Locale.ROOT));
+      assertThat(normalized.getCity()).isEqualTo(regexText(address.getCity()));
+    }
+  }
+
+  private static String regexText(String value) {
+    return value.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
+  private static String text(SplittableRandom random) {
+    int length = random.nextInt(12);
+    StringBuilder text = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+    }
+    return text.toString();
+  }
+}
@@ -0,0 +1,36 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stands in for the payment service: completes or fails payments and refunds cancelled orders.
+ */
+public class InMemoryPaymentResponder {
+  private final double failureRatio;
+
+  public InMemoryPaymentResponder(double failureRatio) {
+    this.failureRatio = failureRatio;
+  }
+
+  public PaymentResult pay(OrderCreatedEvent event) {
+    if (ThreadLocalRandom.current().nextDouble() < failureRatio) {
+      return new PaymentResult(PaymentStatus.FAILED, List.of(FailureReason.of(FailureCode.PAYMENT_INSUFFICIENT_CREDIT,
+          event.getPayload().customerId().getValue().toString())));
+    }
+    return new PaymentResult(PaymentStatus.COMPLETED, List.of());
+  }
+
+  public PaymentResult cancel(OrderCancelledEvent event) {
+    return new PaymentResult(PaymentStatus.CANCELLED, List.of());
+  }
+
+  public record PaymentResult(PaymentStatus paymentStatus, List<FailureReason> failureReasons) {
+  }
+}
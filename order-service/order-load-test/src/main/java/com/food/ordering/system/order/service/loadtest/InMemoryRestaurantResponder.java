@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import com.food.ordering.system.domain.valueobject.FailureCode;
+import com.food.ordering.system.domain.valueobject.FailureReason;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stands in for the restaurant service: approves or rejects paid orders.
+ */
+public class InMemoryRestaurantResponder {
+  private final double rejectionRatio;
+
+  public InMemoryRestaurantResponder(double rejectionRatio) {
+    this.rejectionRatio = rejectionRatio;
+  }
+
+  public ApprovalResult approve(OrderPaidEvent event) {
+    if (ThreadLocalRandom.current().nextDouble() < rejectionRatio) {
+      return new ApprovalResult(OrderApprovalStatus.REJECTED, List.of(FailureReason.of(FailureCode.RESTAURANT_REJECTED,
+          event.getPayload().restaurantId().getValue().toString())));
+    }
+    return new ApprovalResult(OrderApprovalStatus.APPROVED, List.of());
+  }
+
+  public record ApprovalResult(OrderApprovalStatus orderApprovalStatus, List<FailureReason> failureReasons) {
+  }
+}
@@ -0,0 +1,100 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import java.util.SplittableRandom;
+
+public interface ItemCountDistribution {
+
+  int sample(SplittableRandom random);
+
+  /**
+   * Parses {@code fixed:N}, {@code uniform:MIN-MAX} or {@code geometric:MEAN}.
+   */
+  static ItemCountDistribution parse(String spec) {
+    String[] parts = spec.split(":", 2);
+    if (parts.length != 2) {
+      throw new IllegalArgumentException("Item count distribution must look like kind:value, got: " + spec);
+    }
+    return switch (parts[0]) {
+      case "fixed" -> fixed(Integer.parseInt(parts[1]));
+      case "uniform" -> {
+        String[] bounds = parts[1].split("-", 2);
+        yield uniform(Integer.parseInt(bounds[0]), Integer.parseInt(bounds[1]));
+      }
+      case "geometric" -> geometric(Double.parseDouble(parts[1]));
+      default -> throw new IllegalArgumentException("Unknown item count distribution: " + parts[0]);
+    };
+  }
+
+  static ItemCountDistribution fixed(int count) {
+    return new Fixed(count);
+  }
+
+  static ItemCountDistribution uniform(int min, int max) {
+    return new Uniform(min, max);
+  }
+
+  static ItemCountDistribution geometric(double mean) {
+    return new Geometric(mean);
+  }
+
+  record Fixed(int count) implements ItemCountDistribution {
+    public Fixed {
+      if (count <= 0) {
+        throw new IllegalArgumentException("Fixed item count must be greater than zero, got: " + count);
+      }
+    }
+
+    @Override
+    public int sample(SplittableRandom random) {
+      return count;
+    }
+
+    @Override
+    public String toString() {
+      return "fixed:" + count;
+    }
+  }
+
+  record Uniform(int min, int max) implements ItemCountDistribution {
+    public Uniform {
+      if (min <= 0 || max < min) {
+        throw new IllegalArgumentException("Uniform item counts must satisfy 0 < min <= max, got: " + min + "-" + max);
+      }
+    }
+
+    @Override
+    public int sample(SplittableRandom random) {
+      return random.nextInt(min, max + 1);
+    }
+
+    @Override
+    public String toString() {
+      return "uniform:" + min + "-" + max;
+    }
+  }
+
+  /**
+   * Item counts of at least one with the given mean, the number of trials up to the first success.
+   */
+  record Geometric(double mean) implements ItemCountDistribution {
+    public Geometric {
+      if (!(mean >= 1)) {
+        throw new IllegalArgumentException("Geometric item count mean must be at least 1, got: " + mean);
+      }
+    }
+
+    @Override
+    public int sample(SplittableRandom random) {
+      if (mean == 1) {
+        return 1;
+      }
+      double failures = Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log1p(-1.0 / mean));
+      return failures >= Integer.MAX_VALUE - 1 ? Integer.MAX_VALUE : 1 + (int) failures;
+    }
+
+    @Override
+    public String toString() {
+      return "geometric:" + mean;
+    }
+  }
+}
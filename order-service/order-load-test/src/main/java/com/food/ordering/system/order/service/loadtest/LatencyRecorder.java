@@ -0,0 +1,75 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final Map<SagaStage, Recorder> recorders = new EnumMap<>(SagaStage.class);
+  private final Map<SagaStage, Histogram> totals = new EnumMap<>(SagaStage.class);
+  private final Map<SagaOutcome, LongAdder> outcomes = new EnumMap<>(SagaOutcome.class);
+  private final LongAccumulator lastCompletedNanos = new LongAccumulator(Math::max, Long.MIN_VALUE);
+  private volatile long measureFromNanos;
+
+  public LatencyRecorder() {
+    for (SagaStage stage : SagaStage.values()) {
+      recorders.put(stage, new Recorder(SIGNIFICANT_DIGITS));
+      totals.put(stage, new Histogram(SIGNIFICANT_DIGITS));
+    }
+    for (SagaOutcome outcome : SagaOutcome.values()) {
+      outcomes.put(outcome, new LongAdder());
+    }
+  }
+
+  public void record(SagaStage stage, long nanos) {
+    recorders.get(stage).recordValue(Math.max(0, nanos));
+  }
+
+  public void startMeasurement(long fromNanos) {
+    measureFromNanos = fromNanos;
+  }
+
+  public void complete(SagaOutcome outcome) {
+    outcomes.get(outcome).increment();
+    lastCompletedNanos.accumulate(System.nanoTime());
+  }
+
+  /**
+   * Time from the start of the measurement window to the last measured completion, including the
+   * drain after the last arrival.
+   */
+  public double measuredSeconds() {
+    long last = lastCompletedNanos.get();
+    return last == Long.MIN_VALUE ? 0 : (last - measureFromNanos) / 1_000_000_000.0;
+  }
+
+  /**
+   * Moves everything recorded since the previous call into the totals and returns the interval
+   * histogram of the given stage. Must only be called from a single reporting thread.
+   */
+  public synchronized Histogram drainInterval(SagaStage reportedStage) {
+    Histogram reported = null;
+    for (SagaStage stage : SagaStage.values()) {
+      Histogram interval = recorders.get(stage).getIntervalHistogram();
+      totals.get(stage).add(interval);
+      if (stage == reportedStage) {
+        reported = interval;
+      }
+    }
+    return reported;
+  }
+
+  public synchronized Histogram total(SagaStage stage) {
+    return totals.get(stage);
+  }
+
+  public long count(SagaOutcome outcome) {
+    return outcomes.get(outcome).sum();
+  }
+}
@@ -0,0 +1,13 @@
+package com.food.ordering.system.order.service.loadtest;
+
+/**
+ * Runs the saga load test, e.g.
+ * {@code mvn -pl order-service/order-load-test exec:java -Dexec.args="--arrival-rate=5000 --duration=60"}.
+ */
+public class LoadTestApplication {
+  public static void main(String[] args) throws InterruptedException {
+    LoadTestConfig config = LoadTestConfig.fromArgs(args);
+    LatencyRecorder latencyRecorder = new LoadTestRunner(config).run();
+    LoadTestReport.print(config, latencyRecorder);
+  }
+}
@@ -0,0 +1,76 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class LoadTestConfig {
+  @Builder.Default
+  private final int durationSeconds = 30;
+  @Builder.Default
+  private final int warmupSeconds = 5;
+  @Builder.Default
+  private final double arrivalRate = 1000;
+  @Builder.Default
+  private final boolean poissonArrivals = true;
+  @Builder.Default
+  private final int restaurantCount = 1000;
+  @Builder.Default
+  private final double zipfExponent = 1.1;
+  @Builder.Default
+  private final int productsPerRestaurant = 50;
+  @Builder.Default
+  private final ItemCountDistribution itemCountDistribution = ItemCountDistribution.geometric(3);
+  @Builder.Default
+  private final double invalidOrderRatio = 0.01;
+  @Builder.Default
+  private final double paymentFailureRatio = 0.05;
+  @Builder.Default
+  private final double restaurantRejectionRatio = 0.05;
+  @Builder.Default
+  private final int workerThreads = Runtime.getRuntime().availableProcessors();
+  @Builder.Default
+  private final long seed = 42;
+
+  /**
+   * Reads {@code --name=value} arguments, e.g. {@code --arrival-rate=5000 --items=uniform:1-20}.
+   */
+  public static LoadTestConfig fromArgs(String[] args) {
+    LoadTestConfigBuilder builder = LoadTestConfig.builder();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Arguments must look like --name=value, got: " + arg);
+      }
+      String name = arg.substring(2, arg.indexOf('='));
+      String value = arg.substring(arg.indexOf('=') + 1);
+      switch (name) {
+        case "duration" -> builder.durationSeconds(Integer.parseInt(value));
+        case "warmup" -> builder.warmupSeconds(Integer.parseInt(value));
+        case "arrival-rate" -> builder.arrivalRate(Double.parseDouble(value));
+        case "poisson" -> builder.poissonArrivals(Boolean.parseBoolean(value));
+        case "restaurants" -> builder.restaurantCount(Integer.parseInt(value));
+        case "zipf-exponent" -> builder.zipfExponent(Double.parseDouble(value));
+        case "products" -> builder.productsPerRestaurant(Integer.parseInt(value));
+        case "items" -> builder.itemCountDistribution(ItemCountDistribution.parse(value));
+        case "invalid-ratio" -> builder.invalidOrderRatio(Double.parseDouble(value));
+        case "payment-failure-ratio" -> builder.paymentFailureRatio(Double.parseDouble(value));
+        case "rejection-ratio" -> builder.restaurantRejectionRatio(Double.parseDouble(value));
+        case "threads" -> builder.workerThreads(Integer.parseInt(value));
+        case "seed" -> builder.seed(Long.parseLong(value));
+        default -> throw new IllegalArgumentException("Unknown load test argument: " + name);
+      }
+    }
+    return builder.build();
+  }
+
+  @Override
+  public String toString() {
+    return "duration=%ds warmup=%ds arrivalRate=%.0f/s poisson=%s restaurants=%d zipf=%.2f products=%d items=%s invalid=%.3f paymentFailure=%.3f rejection=%.3f threads=%d seed=%d"
+        .formatted(durationSeconds, warmupSeconds, arrivalRate, poissonArrivals, restaurantCount, zipfExponent,
+            productsPerRestaurant, itemCountDistribution, invalidOrderRatio, paymentFailureRatio,
+            restaurantRejectionRatio, workerThreads, seed);
+  }
+}
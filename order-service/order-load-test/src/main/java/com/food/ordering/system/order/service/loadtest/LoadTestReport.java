@@ -0,0 +1,40 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+@Slf4j
+public class LoadTestReport {
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+  private static final double NANOS_PER_MICRO = 1_000.0;
+
+  private LoadTestReport() {
+  }
+
+  public static void print(LoadTestConfig config, LatencyRecorder latencyRecorder) {
+    long completed = 0;
+    for (SagaOutcome outcome : SagaOutcome.values()) {
+      completed += latencyRecorder.count(outcome);
+    }
+    double seconds = latencyRecorder.measuredSeconds();
+    log.info("Load test finished: {}", config);
+    log.info("Throughput: {} sagas/s ({} sagas in {}s, target {}/s)",
+        "%.1f".formatted(seconds > 0 ? completed / seconds : 0), completed, "%.1f".formatted(seconds),
+        "%.0f".formatted(config.getArrivalRate()));
+    for (SagaOutcome outcome : SagaOutcome.values()) {
+      log.info("  {}: {}", outcome, latencyRecorder.count(outcome));
+    }
+    log.info("%-17s %10s %10s %10s %10s %10s %10s %10s".formatted(
+        "stage (us)", "count", "mean", "p50", "p90", "p99", "p99.9", "max"));
+    for (SagaStage stage : SagaStage.values()) {
+      Histogram histogram = latencyRecorder.total(stage);
+      StringBuilder line = new StringBuilder("%-17s %10d %10.1f".formatted(stage, histogram.getTotalCount(),
+          histogram.getMean() / NANOS_PER_MICRO));
+      for (double percentile : PERCENTILES) {
+        line.append(" %10.1f".formatted(histogram.getValueAtPercentile(percentile) / NANOS_PER_MICRO));
+      }
+      line.append(" %10.1f".formatted(histogram.getMaxValue() / NANOS_PER_MICRO));
+      log.info(line.toString());
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator: arrivals follow their own schedule and latency is measured from the
+ * intended start time, so a stalled service shows up as latency instead of a lower arrival rate.
+ */
+@Slf4j
+public class LoadTestRunner {
+  private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final LoadTestConfig config;
+  private final LatencyRecorder latencyRecorder = new LatencyRecorder();
+
+  public LoadTestRunner(LoadTestConfig config) {
+    this.config = config;
+  }
+
+  public LatencyRecorder run() throws InterruptedException {
+    SplittableRandom random = new SplittableRandom(config.getSeed());
+    RestaurantCatalog catalog = new RestaurantCatalog(config.getRestaurantCount(), config.getProductsPerRestaurant(),
+        random.split());
+    WorkloadGenerator generator = new WorkloadGenerator(config, catalog, random.split());
+    SplittableRandom arrivals = random.split();
+    SagaDriver sagaDriver = new SagaDriver(new OrderDomainServiceImpl(),
+        new InMemoryPaymentResponder(config.getPaymentFailureRatio()),
+        new InMemoryRestaurantResponder(config.getRestaurantRejectionRatio()),
+        latencyRecorder);
+
+    ExecutorService workers = Executors.newFixedThreadPool(config.getWorkerThreads());
+    ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+
+    long start = System.nanoTime();
+    long measureFrom = start + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+    long end = measureFrom + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+    latencyRecorder.startMeasurement(measureFrom);
+    reporter.scheduleAtFixedRate(() -> reportProgress(start, measureFrom), 1, 1, TimeUnit.SECONDS);
+
+    double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getArrivalRate();
+    double next = start;
+    long intendedStart;
+    while ((intendedStart = (long) next) < end) {
+      WorkloadItem item = generator.next(intendedStart);
+      boolean measured = intendedStart >= measureFrom;
+      waitUntil(intendedStart);
+      workers.execute(() -> sagaDriver.run(item, measured));
+      next += config.isPoissonArrivals()
+          ? -Math.log(1.0 - arrivals.nextDouble()) * meanIntervalNanos
+          : meanIntervalNanos;
+    }
+
+    workers.shutdown();
+    if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+      log.warn("Workers did not drain within a minute, report will be incomplete");
+      workers.shutdownNow();
+    }
+    reporter.shutdownNow();
+    latencyRecorder.drainInterval(SagaStage.END_TO_END);
+    return latencyRecorder;
+  }
+
+  private void reportProgress(long start, long measureFrom) {
+    Histogram interval = latencyRecorder.drainInterval(SagaStage.END_TO_END);
+    long now = System.nanoTime();
+    log.info("{}s {} completed={}/s e2e p50={}us p99={}us max={}us",
+        TimeUnit.NANOSECONDS.toSeconds(now - start),
+        now < measureFrom ? "warmup " : "measure",
+        interval.getTotalCount(),
+        TimeUnit.NANOSECONDS.toMicros(interval.getValueAtPercentile(50)),
+        TimeUnit.NANOSECONDS.toMicros(interval.getValueAtPercentile(99)),
+        TimeUnit.NANOSECONDS.toMicros(interval.getMaxValue()));
+  }
+
+  private static void waitUntil(long deadlineNanos) {
+    long remaining;
+    while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+      if (remaining > SPIN_THRESHOLD_NANOS) {
+        LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+      } else {
+        Thread.onSpinWait();
+      }
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.OrderItemsValidator;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Compares item validation strategies for orders of growing size, run with
+ * {@code mvn -pl order-service/order-load-test exec:java
+ * -Dexec.mainClass=com.food.ordering.system.order.service.loadtest.OrderValidationBenchmark
+ * -Dexec.args="10 100 1000"}.
+ * <p>
+ * {@code stream} is the former stream-and-reduce validation kept here as the baseline,
+ * {@code fused} the single-pass validator and {@code parallel} the same validator forced to
+ * split every order.
+ */
+@Slf4j
+public class OrderValidationBenchmark {
+  private static final long WARMUP_NANOS = 2_000_000_000L;
+  private static final long ROUND_NANOS = 1_000_000_000L;
+  private static final int ROUNDS = 3;
+
+  public static void main(String[] args) {
+    int[] itemCounts = args.length == 0 ? new int[]{10, 100, 1_000}
+        : Arrays.stream(args).mapToInt(Integer::parseInt).toArray();
+    OrderItemsValidator fused = new OrderItemsValidator(Integer.MAX_VALUE);
+    OrderItemsValidator parallel = new OrderItemsValidator(1);
+
+    log.info("%-8s %-10s %12s %14s".formatted("items", "strategy", "ns/op", "ops/s"));
+    for (int itemCount : itemCounts) {
+      Order order = order(itemCount, new SplittableRandom(itemCount));
+      run(itemCount, "stream", order, OrderValidationBenchmark::streamValidate);
+      run(itemCount, "fused", order, o -> o.validateOrder(fused));
+      run(itemCount, "parallel", order, o -> o.validateOrder(parallel));
+    }
+  }
+
+  private static void run(int itemCount, String strategy, Order order, Consumer<Order> validation) {
+    measure(order, validation, WARMUP_NANOS);
+    double[] nanosPerOp = new double[ROUNDS];
+    for (int round = 0; round < ROUNDS; round++) {
+      nanosPerOp[round] = measure(order, validation, ROUND_NANOS);
+    }
+    Arrays.sort(nanosPerOp);
+    double median = nanosPerOp[ROUNDS / 2];
+    log.info("%-8d %-10s %12.1f %14.0f".formatted(itemCount, strategy, median, 1_000_000_000d / median));
+  }
+
+  private static double measure(Order order, Consumer<Order> validation, long durationNanos) {
+    long operations = 0;
+    long started = System.nanoTime();
+    long elapsed;
+    do {
+      for (int i = 0; i < 64; i++) {
+        validation.accept(order);
+      }
+      operations += 64;
+      elapsed = System.nanoTime() - started;
+    } while (elapsed < durationNanos);
+    return (double) elapsed / operations;
+  }
+
+  private static void streamValidate(Order order) {
+    Money orderItemTotal = order.getItems().stream()
+        .map(orderItem -> {
+          boolean valid = orderItem.getPrice().isGreaterThan(Money.ZERO)
+              && orderItem.getPrice().equals(orderItem.getProduct().getPrice())
+              && orderItem.getSubTotal().equals(orderItem.getPrice().multiply(orderItem.getQuantity()));
+          if (!valid) {
+            throw new OrderDomainException("Order item price is not valid");
+          }
+          return orderItem.getSubTotal();
+        }).reduce(Money.ZERO, Money::add);
+    if (!orderItemTotal.equals(order.getPrice())) {
+      throw new OrderDomainException("Total price is not equal to Order item total");
+    }
+  }
+
+  private static Order order(int itemCount, SplittableRandom random) {
+    List<OrderItem> items = new ArrayList<>(itemCount);
+    Money total = Money.ZERO;
+    for (int i = 0; i < itemCount; i++) {
+      Money price = new Money(BigDecimal.valueOf(100L + random.nextInt(5_000), 2));
+      int quantity = random.nextInt(1, 4);
+      Money subTotal = price.multiply(quantity);
+      items.add(OrderItem.Builder.builder()
+          .product(new Product(new ProductId(new UUID(itemCount, i)), "product-" + i, price))
+          .quantity(quantity)
+          .price(price)
+          .subTotal(subTotal)
+          .build());
+      total = total.add(subTotal);
+    }
+    return Order.Builder.builder()
+        .customerId(new CustomerId(new UUID(0, itemCount)))
+        .price(total)
+        .items(items)
+        .build();
+  }
+}
@@ -0,0 +1,45 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public class RestaurantCatalog {
+  private final Restaurant[] restaurants;
+
+  public RestaurantCatalog(int restaurantCount, int productsPerRestaurant, SplittableRandom random) {
+    restaurants = new Restaurant[restaurantCount];
+    for (int i = 0; i < restaurantCount; i++) {
+      List<Product> products = new ArrayList<>(productsPerRestaurant);
+      for (int j = 0; j < productsPerRestaurant; j++) {
+        BigDecimal price = BigDecimal.valueOf(random.nextLong(100, 10_000), 2);
+        products.add(new Product(new ProductId(randomUuid(random)), "product-" + i + "-" + j, new Money(price)));
+      }
+      restaurants[i] = Restaurant.Builder.builder()
+          .restaurantId(new RestaurantId(randomUuid(random)))
+          .products(List.copyOf(products))
+          .active(true)
+          .build();
+    }
+  }
+
+  public Restaurant get(int rank) {
+    return restaurants[rank];
+  }
+
+  public int size() {
+    return restaurants.length;
+  }
+
+  static UUID randomUuid(SplittableRandom random) {
+    return new UUID(random.nextLong(), random.nextLong());
+  }
+}
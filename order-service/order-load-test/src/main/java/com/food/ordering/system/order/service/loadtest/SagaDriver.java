@@ -0,0 +1,90 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives one order through create -> pay -> approve, or the matching cancellation path.
+ */
+@Slf4j
+public class SagaDriver {
+  private final OrderDomainService orderDomainService;
+  private final InMemoryPaymentResponder paymentResponder;
+  private final InMemoryRestaurantResponder restaurantResponder;
+  private final LatencyRecorder latencyRecorder;
+
+  public SagaDriver(OrderDomainService orderDomainService,
+                    InMemoryPaymentResponder paymentResponder,
+                    InMemoryRestaurantResponder restaurantResponder,
+                    LatencyRecorder latencyRecorder) {
+    this.orderDomainService = orderDomainService;
+    this.paymentResponder = paymentResponder;
+    this.restaurantResponder = restaurantResponder;
+    this.latencyRecorder = latencyRecorder;
+  }
+
+  public void run(WorkloadItem item, boolean measured) {
+    long started = System.nanoTime();
+    SagaOutcome outcome;
+    try {
+      outcome = drive(item, started, measured);
+    } catch (RuntimeException e) {
+      log.error("Saga failed unexpectedly", e);
+      outcome = SagaOutcome.ERROR;
+    }
+    if (measured) {
+      latencyRecorder.record(SagaStage.SCHEDULING_DELAY, started - item.intendedStartNanos());
+      latencyRecorder.record(SagaStage.END_TO_END, System.nanoTime() - item.intendedStartNanos());
+      latencyRecorder.complete(outcome);
+    }
+  }
+
+  private SagaOutcome drive(WorkloadItem item, long started, boolean measured) {
+    Order order = item.order();
+    OrderCreatedEvent createdEvent;
+    try {
+      createdEvent = orderDomainService.validateAndInitiateOrder(order, item.restaurant());
+    } catch (OrderDomainException e) {
+      return SagaOutcome.INVALID;
+    }
+    long created = record(SagaStage.CREATE, started, measured);
+
+    InMemoryPaymentResponder.PaymentResult payment = paymentResponder.pay(createdEvent);
+    if (payment.paymentStatus() != PaymentStatus.COMPLETED) {
+      orderDomainService.cancelOrder(order, payment.failureReasons());
+      record(SagaStage.PAYMENT, created, measured);
+      return SagaOutcome.PAYMENT_FAILED;
+    }
+    OrderPaidEvent paidEvent = orderDomainService.payOrder(order);
+    long paid = record(SagaStage.PAYMENT, created, measured);
+
+    InMemoryRestaurantResponder.ApprovalResult approval = restaurantResponder.approve(paidEvent);
+    if (approval.orderApprovalStatus() == OrderApprovalStatus.APPROVED) {
+      orderDomainService.approveOrder(order);
+      record(SagaStage.APPROVAL, paid, measured);
+      return SagaOutcome.APPROVED;
+    }
+    long rejected = record(SagaStage.APPROVAL, paid, measured);
+
+    OrderCancelledEvent cancelledEvent = orderDomainService.cancelOrderPayment(order, approval.failureReasons());
+    InMemoryPaymentResponder.PaymentResult refund = paymentResponder.cancel(cancelledEvent);
+    orderDomainService.cancelOrder(order, refund.failureReasons());
+    record(SagaStage.CANCELLATION, rejected, measured);
+    return SagaOutcome.RESTAURANT_REJECTED;
+  }
+
+  private long record(SagaStage stage, long since, boolean measured) {
+    long now = System.nanoTime();
+    if (measured) {
+      latencyRecorder.record(stage, now - since);
+    }
+    return now;
+  }
+}
@@ -0,0 +1,9 @@
+package com.food.ordering.system.order.service.loadtest;
+
+public enum SagaOutcome {
+  APPROVED,
+  INVALID,
+  PAYMENT_FAILED,
+  RESTAURANT_REJECTED,
+  ERROR
+}
@@ -0,0 +1,10 @@
+package com.food.ordering.system.order.service.loadtest;
+
+public enum SagaStage {
+  SCHEDULING_DELAY,
+  CREATE,
+  PAYMENT,
+  APPROVAL,
+  CANCELLATION,
+  END_TO_END
+}
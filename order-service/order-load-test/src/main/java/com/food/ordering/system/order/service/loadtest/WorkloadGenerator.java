@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class WorkloadGenerator {
+  private static final int MAX_ITEMS = 1_000;
+  private static final Money ONE_CENT = new Money(new BigDecimal("0.01"));
+
+  private final LoadTestConfig config;
+  private final RestaurantCatalog catalog;
+  private final ZipfDistribution restaurantPopularity;
+  private final SplittableRandom random;
+
+  public WorkloadGenerator(LoadTestConfig config, RestaurantCatalog catalog, SplittableRandom random) {
+    this.config = config;
+    this.catalog = catalog;
+    this.restaurantPopularity = new ZipfDistribution(catalog.size(), config.getZipfExponent());
+    this.random = random;
+  }
+
+  public WorkloadItem next(long intendedStartNanos) {
+    Restaurant restaurant = catalog.get(restaurantPopularity.sample(random));
+    List<Product> menu = restaurant.getProducts();
+    int itemCount = Math.max(1, Math.min(MAX_ITEMS, config.getItemCountDistribution().sample(random)));
+
+    List<OrderItem> items = new ArrayList<>(itemCount);
+    Money total = Money.ZERO;
+    for (int i = 0; i < itemCount; i++) {
+      Product product = menu.get(random.nextInt(menu.size()));
+      int quantity = random.nextInt(1, 4);
+      Money subTotal = product.getPrice().multiply(quantity);
+      items.add(OrderItem.Builder.builder()
+          .product(new Product(product.getId(), null, null))
+          .quantity(quantity)
+          .price(product.getPrice())
+          .subTotal(subTotal)
+          .build());
+      total = total.add(subTotal);
+    }
+    if (random.nextDouble() < config.getInvalidOrderRatio()) {
+      total = total.add(ONE_CENT);
+    }
+
+    Order order = Order.Builder.builder()
+        .customerId(new CustomerId(RestaurantCatalog.randomUuid(random)))
+        .restaurantId(restaurant.getId())
+        .deliveryAddress(new StreetAddress(RestaurantCatalog.randomUuid(random), "street", "1000AB", "city"))
+        .price(total)
+        .items(items)
+        .build();
+    return new WorkloadItem(order, restaurant, intendedStartNanos);
+  }
+}
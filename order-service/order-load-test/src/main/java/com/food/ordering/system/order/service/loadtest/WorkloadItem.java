@@ -0,0 +1,7 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+
+public record WorkloadItem(Order order, Restaurant restaurant, long intendedStartNanos) {
+}
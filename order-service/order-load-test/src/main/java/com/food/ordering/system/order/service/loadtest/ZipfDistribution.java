@@ -0,0 +1,32 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class ZipfDistribution {
+  private final double[] cumulativeProbabilities;
+
+  public ZipfDistribution(int size, double exponent) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("Zipf distribution size must be greater than zero");
+    }
+    cumulativeProbabilities = new double[size];
+    double sum = 0;
+    for (int rank = 1; rank <= size; rank++) {
+      sum += 1.0 / Math.pow(rank, exponent);
+      cumulativeProbabilities[rank - 1] = sum;
+    }
+    for (int i = 0; i < size; i++) {
+      cumulativeProbabilities[i] /= sum;
+    }
+  }
+
+  /**
+   * @return a zero based rank, rank 0 being the most popular one.
+   */
+  public int sample(SplittableRandom random) {
+    int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+    int rank = index >= 0 ? index : -index - 1;
+    return Math.min(rank, cumulativeProbabilities.length - 1);
+  }
+}
@@ -0,0 +1,257 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import com.food.ordering.system.domain.event.DomainEventClock;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.ValidatedBasketCache;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.OrderItemsValidator;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Allocation budgets of the domain hot paths. Tagged {@code allocation} and left out of the default
+ * test run; run with {@code mvn -pl order-service/order-load-test test -Pallocation-budgets}, adding
+ * {@code -Dallocation.report=true} to list the allocation sites of every scenario.
+ * <p>
+ * Bytes per operation are read from the allocation counter of the measuring thread once the
+ * scenario is warm, so escape analysis has had its chance. Inputs are built outside the measured
+ * window and results are published to a field, as callers would store them. Budgets sit a margin
+ * above the figures measured when they were last set; a scenario over budget is run again under
+ * JFR allocation sampling and its top allocation sites are logged before the scenario fails.
+ */
+@Slf4j
+@Tag("allocation")
+class AllocationBudgetTest {
+  private static final int BATCH = 1_024;
+  private static final int WARMUP_BATCHES = 2_000;
+  private static final int MEASURED_BATCHES = 200;
+  private static final long PROFILE_NANOS = 2_000_000_000L;
+  private static final int TOP_SITES = 10;
+  private static final int ITEMS_PER_ORDER = 10;
+  private static final int PRODUCTS_PER_RESTAURANT = 50;
+  private static final int REPEATED_BASKETS = 64;
+
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  static volatile Object sink;
+
+  private record Scenario(String name, long budgetBytesPerOp, IntFunction<IntConsumer> prepareBatch) {
+  }
+
+  @TestFactory
+  Stream<DynamicTest> staysWithinAllocationBudget() {
+    boolean reportAll = Boolean.getBoolean("allocation.report");
+    SplittableRandom random = new SplittableRandom(42);
+    Restaurant restaurant = restaurant(random);
+    OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+    OrderDomainService reorderingService = new OrderDomainServiceImpl(DomainEventClock.SYSTEM,
+        OrderItemsValidator.DEFAULT, new ValidatedBasketCache(REPEATED_BASKETS * 2));
+    Money[] amounts = amounts(random);
+
+    List<Scenario> scenarios = List.of(
+        new Scenario("Money.add", 64, size -> i -> sink = amounts[i].add(amounts[i + 1])),
+        new Scenario("Money.subtract", 64, size -> i -> sink = amounts[i + 1].subtract(amounts[i])),
+        new Scenario("Money.multiply", 64, size -> i -> sink = amounts[i].multiply(i % 4 + 1)),
+        new Scenario("Order.validateOrder", 64, size -> {
+          Order order = order(restaurant, random, true);
+          return i -> order.validateOrder();
+        }),
+        new Scenario("validateAndInitiateOrder", 640, size -> {
+          Order[] orders = new Order[size];
+          for (int i = 0; i < size; i++) {
+            orders[i] = order(restaurant, random, false);
+          }
+          return i -> sink = orderDomainService.validateAndInitiateOrder(orders[i], restaurant);
+        }),
+        new Scenario("validateAndInitiateOrder reorder", 640, size -> {
+          Order[] orders = new Order[size];
+          for (int i = 0; i < size; i++) {
+            orders[i] = order(restaurant, new SplittableRandom(i % REPEATED_BASKETS), false);
+          }
+          return i -> sink = reorderingService.validateAndInitiateOrder(orders[i], restaurant);
+        }));
+
+    long overhead = counterOverhead();
+    return scenarios.stream().map(scenario -> DynamicTest.dynamicTest(scenario.name(), () -> {
+      measure(scenario, WARMUP_BATCHES, overhead);
+      double bytesPerOp = measure(scenario, MEASURED_BATCHES, overhead);
+      log.info("%-34s %12.1f bytes/op, budget %d".formatted(scenario.name(), bytesPerOp,
+          scenario.budgetBytesPerOp()));
+      if (bytesPerOp > scenario.budgetBytesPerOp() || reportAll) {
+        reportSites(scenario);
+      }
+      assertThat(bytesPerOp).as("bytes per %s", scenario.name()).isLessThanOrEqualTo(scenario.budgetBytesPerOp());
+    }));
+  }
+
+  private static double measure(Scenario scenario, int batches, long overhead) {
+    long bytes = 0;
+    for (int batch = 0; batch < batches; batch++) {
+      IntConsumer operation = scenario.prepareBatch().apply(BATCH);
+      long before = THREADS.getCurrentThreadAllocatedBytes();
+      for (int i = 0; i < BATCH; i++) {
+        operation.accept(i);
+      }
+      bytes += THREADS.getCurrentThreadAllocatedBytes() - before - overhead;
+    }
+    return (double) bytes / ((long) batches * BATCH);
+  }
+
+  /**
+   * Bytes the allocation counter reports for an empty window, subtracted from every measurement.
+   */
+  private static long counterOverhead() {
+    long overhead = Long.MAX_VALUE;
+    for (int i = 0; i < 10_000; i++) {
+      long before = THREADS.getCurrentThreadAllocatedBytes();
+      overhead = Math.min(overhead, THREADS.getCurrentThreadAllocatedBytes() - before);
+    }
+    return overhead;
+  }
+
+  /**
+   * Runs the scenario under JFR allocation sampling and prints the sites that allocated the most,
+   * each as the allocated type, the allocating frame and the nearest frame of this code base.
+   */
+  private static void reportSites(Scenario scenario) throws IOException {
+    Path dump = Files.createTempFile("allocation-" + scenario.name(), ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("jdk.ObjectAllocationSample").with("throttle", "10000/s").withStackTrace();
+      recording.start();
+      long started = System.nanoTime();
+      while (System.nanoTime() - started < PROFILE_NANOS) {
+        IntConsumer operation = scenario.prepareBatch().apply(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+          operation.accept(i);
+        }
+      }
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    Map<String, Long> weightBySite = new HashMap<>();
+    long totalWeight = 0;
+    for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+      if (event.getThread() == null || event.getThread().getJavaThreadId() != Thread.currentThread().getId()
+          || event.getStackTrace() == null) {
+        continue;
+      }
+      long weight = event.getLong("weight");
+      weightBySite.merge(site(event), weight, Long::sum);
+      totalWeight += weight;
+    }
+    Files.deleteIfExists(dump);
+
+    long total = Math.max(1, totalWeight);
+    log.info("Top allocation sites of {}:", scenario.name());
+    weightBySite.entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+        .limit(TOP_SITES)
+        .forEach(site -> log.info("  %5.1f%%  %s".formatted(100d * site.getValue() / total, site.getKey())));
+  }
+
+  private static String site(RecordedEvent event) {
+    List<RecordedFrame> frames = event.getStackTrace().getFrames();
+    String allocatingFrame = frames.isEmpty() ? "?" : frameName(frames.get(0));
+    String applicationFrame = "?";
+    for (RecordedFrame frame : frames) {
+      String type = frame.getMethod().getType().getName();
+      if (type.startsWith("com.food.ordering.system") && !type.startsWith(AllocationBudgetTest.class.getName())) {
+        applicationFrame = frameName(frame);
+        break;
+      }
+    }
+    String objectClass = event.getClass("objectClass").getName();
+    return allocatingFrame.equals(applicationFrame)
+        ? objectClass + " at " + allocatingFrame
+        : objectClass + " at " + allocatingFrame + " from " + applicationFrame;
+  }
+
+  private static String frameName(RecordedFrame frame) {
+    String type = frame.getMethod().getType().getName();
+    return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+  }
+
+  private static Money[] amounts(SplittableRandom random) {
+    Money[] amounts = new Money[BATCH + 1];
+    for (int i = 0; i < amounts.length; i++) {
+      amounts[i] = new Money(BigDecimal.valueOf(random.nextLong(100, 100_000), 2));
+    }
+    return amounts;
+  }
+
+  private static Restaurant restaurant(SplittableRandom random) {
+    List<Product> products = new ArrayList<>(PRODUCTS_PER_RESTAURANT);
+    for (int i = 0; i < PRODUCTS_PER_RESTAURANT; i++) {
+      Money price = new Money(BigDecimal.valueOf(random.nextLong(100, 10_000), 2));
+      products.add(new Product(new ProductId(RestaurantCatalog.randomUuid(random)), "product-" + i, price));
+    }
+    return Restaurant.Builder.builder()
+        .restaurantId(new RestaurantId(RestaurantCatalog.randomUuid(random)))
+        .products(List.copyOf(products))
+        .active(true)
+        .build();
+  }
+
+  /**
+   * An order as the application layer hands it over, where products carry ids only and are
+   * confirmed against the restaurant menu, or with its products already confirmed.
+   */
+  private static Order order(Restaurant restaurant, SplittableRandom random, boolean confirmed) {
+    List<Product> menu = restaurant.getProducts();
+    List<OrderItem> items = new ArrayList<>(ITEMS_PER_ORDER);
+    Money total = Money.ZERO;
+    for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+      Product product = menu.get(random.nextInt(menu.size()));
+      int quantity = random.nextInt(1, 4);
+      Money subTotal = product.getPrice().multiply(quantity);
+      items.add(OrderItem.Builder.builder()
+          .product(confirmed ? product : new Product(product.getId(), null, null))
+          .quantity(quantity)
+          .price(product.getPrice())
+          .subTotal(subTotal)
+          .build());
+      total = total.add(subTotal);
+    }
+    return Order.Builder.builder()
+        .customerId(new CustomerId(new UUID(0, random.nextLong())))
+        .restaurantId(restaurant.getId())
+        .deliveryAddress(new StreetAddress(new UUID(1, random.nextLong()), "street", "1000AB", "city"))
+        .price(total)
+        .items(items)
+        .build();
+  }
+}
@@ -0,0 +1,83 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ItemCountDistributionTest {
+  private static final int SAMPLES = 500_000;
+
+  @ParameterizedTest
+  @ValueSource(doubles = {1.5, 3, 10})
+  void geometricCountsHaveTheConfiguredMean(double mean) {
+    ItemCountDistribution distribution = ItemCountDistribution.geometric(mean);
+    SplittableRandom random = new SplittableRandom(42);
+    long sum = 0;
+    long ones = 0;
+    for (int i = 0; i < SAMPLES; i++) {
+      int count = distribution.sample(random);
+      assertThat(count).isPositive();
+      sum += count;
+      ones += count == 1 ? 1 : 0;
+    }
+
+    assertThat((double) sum / SAMPLES).isCloseTo(mean, within(mean * 0.01));
+    assertThat((double) ones / SAMPLES).isCloseTo(1 / mean, within(0.005));
+  }
+
+  @Test
+  void geometricWithMeanOneAlwaysOrdersOneItem() {
+    ItemCountDistribution distribution = ItemCountDistribution.geometric(1);
+    SplittableRandom random = new SplittableRandom(42);
+
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(distribution.sample(random)).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void geometricWithAHugeMeanStaysPositive() {
+    ItemCountDistribution distribution = ItemCountDistribution.geometric(1e12);
+    SplittableRandom random = new SplittableRandom(42);
+
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(distribution.sample(random)).isPositive();
+    }
+  }
+
+  @Test
+  void uniformCountsCoverTheRangeInclusively() {
+    ItemCountDistribution distribution = ItemCountDistribution.uniform(2, 5);
+    SplittableRandom random = new SplittableRandom(42);
+    long[] counts = new long[6];
+    for (int i = 0; i < 100_000; i++) {
+      counts[distribution.sample(random)]++;
+    }
+
+    assertThat(counts[0]).isZero();
+    assertThat(counts[1]).isZero();
+    for (int count = 2; count <= 5; count++) {
+      assertThat(counts[count] / 100_000.0).isCloseTo(0.25, within(0.01));
+    }
+  }
+
+  @Test
+  void parsesEveryKind() {
+    assertThat(ItemCountDistribution.parse("fixed:4")).isEqualTo(ItemCountDistribution.fixed(4));
+    assertThat(ItemCountDistribution.parse("uniform:1-20")).isEqualTo(ItemCountDistribution.uniform(1, 20));
+    assertThat(ItemCountDistribution.parse("geometric:2.5")).isEqualTo(ItemCountDistribution.geometric(2.5));
+    assertThat(ItemCountDistribution.parse("uniform:1-20")).hasToString("uniform:1-20");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"fixed", "poisson:3", "fixed:0", "uniform:5-2", "uniform:0-3", "geometric:0.5", "geometric:NaN"})
+  void rejectsInvalidSpecs(String spec) {
+    assertThatThrownBy(() -> ItemCountDistribution.parse(spec)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,58 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadTestConfigTest {
+
+  @Test
+  void noArgumentsGiveTheDefaults() {
+    LoadTestConfig config = LoadTestConfig.fromArgs(new String[0]);
+
+    assertThat(config.getDurationSeconds()).isEqualTo(30);
+    assertThat(config.getArrivalRate()).isEqualTo(1000);
+    assertThat(config.isPoissonArrivals()).isTrue();
+    assertThat(config.getZipfExponent()).isEqualTo(1.1);
+    assertThat(config.getItemCountDistribution()).isEqualTo(ItemCountDistribution.geometric(3));
+    assertThat(config.getSeed()).isEqualTo(42);
+  }
+
+  @Test
+  void readsEveryArgument() {
+    LoadTestConfig config = LoadTestConfig.fromArgs(new String[]{
+        "--duration=60", "--warmup=10", "--arrival-rate=5000.5", "--poisson=false", "--restaurants=200",
+        "--zipf-exponent=0", "--products=20", "--items=uniform:1-20", "--invalid-ratio=0.1",
+        "--payment-failure-ratio=0.2", "--rejection-ratio=0.3", "--threads=3", "--seed=-7"});
+
+    assertThat(config.getDurationSeconds()).isEqualTo(60);
+    assertThat(config.getWarmupSeconds()).isEqualTo(10);
+    assertThat(config.getArrivalRate()).isEqualTo(5000.5);
+    assertThat(config.isPoissonArrivals()).isFalse();
+    assertThat(config.getRestaurantCount()).isEqualTo(200);
+    assertThat(config.getZipfExponent()).isZero();
+    assertThat(config.getProductsPerRestaurant()).isEqualTo(20);
+    assertThat(config.getItemCountDistribution()).isEqualTo(ItemCountDistribution.uniform(1, 20));
+    assertThat(config.getInvalidOrderRatio()).isEqualTo(0.1);
+    assertThat(config.getPaymentFailureRatio()).isEqualTo(0.2);
+    assertThat(config.getRestaurantRejectionRatio()).isEqualTo(0.3);
+    assertThat(config.getWorkerThreads()).isEqualTo(3);
+    assertThat(config.getSeed()).isEqualTo(-7);
+  }
+
+  @Test
+  void rejectsMalformedAndUnknownArguments() {
+    assertThatThrownBy(() -> LoadTestConfig.fromArgs(new String[]{"duration=60"}))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("--name=value");
+    assertThatThrownBy(() -> LoadTestConfig.fromArgs(new String[]{"--duration"}))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("--name=value");
+    assertThatThrownBy(() -> LoadTestConfig.fromArgs(new String[]{"--rate=10"}))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unknown load test argument: rate");
+    assertThatThrownBy(() -> LoadTestConfig.fromArgs(new String[]{"--threads=many"}))
+        .isInstanceOf(NumberFormatException.class);
+  }
+}
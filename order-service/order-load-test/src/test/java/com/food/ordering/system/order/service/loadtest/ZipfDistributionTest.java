@@ -0,0 +1,69 @@
+package com.food.ordering.system.order.service.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ZipfDistributionTest {
+  private static final int SAMPLES = 1_000_000;
+
+  @Test
+  void rankFrequenciesFallWithRankAndFollowThePowerLaw() {
+    int size = 20;
+    double exponent = 1.1;
+    double[] frequencies = frequencies(new ZipfDistribution(size, exponent), size);
+
+    double normalization = 0;
+    for (int rank = 1; rank <= size; rank++) {
+      normalization += Math.pow(rank, -exponent);
+    }
+    for (int rank = 0; rank < size; rank++) {
+      if (rank > 0) {
+        assertThat(frequencies[rank]).isLessThan(frequencies[rank - 1]);
+      }
+      assertThat(frequencies[rank]).isCloseTo(Math.pow(rank + 1, -exponent) / normalization, within(0.002));
+    }
+  }
+
+  @Test
+  void exponentZeroIsUniform() {
+    int size = 50;
+    double[] frequencies = frequencies(new ZipfDistribution(size, 0), size);
+
+    for (double frequency : frequencies) {
+      assertThat(frequency).isCloseTo(1.0 / size, within(0.002));
+    }
+  }
+
+  @Test
+  void singleRankIsAlwaysSampled() {
+    ZipfDistribution distribution = new ZipfDistribution(1, 1.1);
+    SplittableRandom random = new SplittableRandom(1);
+
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(distribution.sample(random)).isZero();
+    }
+  }
+
+  @Test
+  void rejectsEmptyDistribution() {
+    assertThatThrownBy(() -> new ZipfDistribution(0, 1.1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static double[] frequencies(ZipfDistribution distribution, int size) {
+    SplittableRandom random = new SplittableRandom(42);
+    long[] counts = new long[size];
+    for (int i = 0; i < SAMPLES; i++) {
+      counts[distribution.sample(random)]++;
+    }
+    double[] frequencies = new double[size];
+    for (int rank = 0; rank < size; rank++) {
+      frequencies[rank] = (double) counts[rank] / SAMPLES;
+    }
+    return frequencies;
+  }
+}